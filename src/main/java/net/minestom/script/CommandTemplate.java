@@ -0,0 +1,171 @@
+package net.minestom.script;
+
+import net.minestom.script.utils.CommandUtils;
+import net.minestom.script.utils.HostArguments;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.command.CommandManager;
+import net.minestom.server.command.CommandSender;
+import net.minestom.server.command.builder.CommandParser;
+import net.minestom.server.command.builder.ExecutableCommand;
+import net.minestom.server.utils.validate.Check;
+import org.graalvm.polyglot.proxy.ProxyObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Command containing placeholders ({0}, {1}, ...), compiled once by {@link GlobalExecutor#make(String, ProxyObjectMapper)}.
+ * <p>
+ * The pattern follows {@link java.text.MessageFormat}: text between apostrophes is quoted, {@code ''} is an apostrophe
+ * and unmatched braces are rejected. Format types such as {@code {0,number}} are rejected as well, arguments are
+ * converted with {@link GlobalExecutor#argumentToString(Object)} which, unlike MessageFormat, does not group
+ * the digits of numbers according to the locale.
+ * <p>
+ * Calls only substitute the arguments, and the parse result of recently used inputs is kept so that
+ * repeated calls skip the command parser. Each execution still gets its own command context.
+ */
+final class CommandTemplate {
+
+    static final int CACHE_SIZE = 256;
+
+    // literals[i] precedes the argument slots[i], the last literal follows the last slot
+    private final String[] literals;
+    private final int[] slots;
+    private final int length;
+
+    // Only valid commands are kept, their executable creates a new context for every execution
+    private final Map<String, CommandParser.Result> cache = new LinkedHashMap<>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, CommandParser.Result> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    private CommandTemplate(@NotNull String[] literals, @NotNull int[] slots) {
+        this.literals = literals;
+        this.slots = slots;
+        int length = 0;
+        for (String literal : literals) {
+            length += literal.length();
+        }
+        this.length = length;
+    }
+
+    /**
+     * Compiles a command template.
+     *
+     * @param template the template
+     * @return the compiled template
+     * @throws IllegalArgumentException if the braces are unmatched, or a placeholder is not a plain argument index
+     */
+    static @NotNull CommandTemplate compile(@NotNull String template) {
+        List<String> literals = new ArrayList<>();
+        List<Integer> slots = new ArrayList<>();
+        StringBuilder literal = new StringBuilder();
+        boolean quoted = false;
+        for (int index = 0; index < template.length(); index++) {
+            final char c = template.charAt(index);
+            if (c == '\'') {
+                if (index + 1 < template.length() && template.charAt(index + 1) == '\'') {
+                    literal.append('\'');
+                    index++;
+                } else {
+                    quoted = !quoted;
+                }
+            } else if (c == '{' && !quoted) {
+                final int end = template.indexOf('}', index);
+                Check.argCondition(end == -1, "Unmatched braces in the command template: " + template);
+                final String argument = template.substring(index + 1, end);
+                Check.argCondition(argument.indexOf(',') != -1,
+                        "Format types are not supported in command templates: {" + argument + "}");
+                Check.argCondition(!isNumber(argument),
+                        "Invalid argument index in the command template: {" + argument + "}");
+                literals.add(literal.toString());
+                literal.setLength(0);
+                slots.add(Integer.parseInt(argument));
+                index = end;
+            } else {
+                literal.append(c);
+            }
+        }
+        literals.add(literal.toString());
+        return new CommandTemplate(literals.toArray(String[]::new),
+                slots.stream().mapToInt(Integer::intValue).toArray());
+    }
+
+    /**
+     * Substitutes the arguments into the template.
+     *
+     * @param args the arguments, missing ones are kept as placeholders
+     * @return the command input
+     */
+    @NotNull String format(@Nullable Object... args) {
+        StringBuilder builder = new StringBuilder(length + slots.length * 8);
+        for (int i = 0; i < slots.length; i++) {
+            builder.append(literals[i]);
+            final int slot = slots[i];
+            if (args != null && slot < args.length) {
+                builder.append(GlobalExecutor.argumentToString(args[slot]));
+            } else {
+                builder.append('{').append(slot).append('}');
+            }
+        }
+        return builder.append(literals[slots.length]).toString();
+    }
+
+    @Nullable ProxyObject run(@NotNull ExecutionOptions options, @Nullable Object... args) {
+        final CommandSender sender = options.resolveSender();
+        if (sender == null) return null;
+        final var previous = HostArguments.bind(args);
+        final boolean silent = CommandUtils.setSilent(options.isSilent());
+        try {
+            return execute(sender, format(args));
+        } finally {
+            CommandUtils.setSilent(silent);
+            HostArguments.restore(previous);
+        }
+    }
+
+    private @Nullable ProxyObject execute(@NotNull CommandSender sender, @NotNull String input) {
+        final CommandManager commandManager = MinecraftServer.getCommandManager();
+        CommandParser.Result result;
+        synchronized (cache) {
+            result = cache.get(input);
+        }
+        if (result == null) {
+            result = commandManager.parseCommand(sender, input);
+            if (!(result instanceof CommandParser.Result.KnownCommand.Valid)) {
+                // Unknown or invalid command, let the manager handle and report it
+                return CommandUtils.retrieveCommandData(commandManager.execute(sender, input), input);
+            }
+            synchronized (cache) {
+                cache.put(input, result);
+            }
+        }
+        // Conditions are checked again against the sender, and the arguments bound to a new context
+        final ExecutableCommand.Result execution = result.executable().execute(sender);
+        if (execution.type() != ExecutableCommand.Result.Type.SUCCESS && !CommandUtils.isSilent()) {
+            System.err.println("ERROR COMMAND '" + input + "' with result: " + execution.type());
+        }
+        return CommandUtils.retrieveCommandData(execution.commandData());
+    }
+
+    int cachedInputs() {
+        synchronized (cache) {
+            return cache.size();
+        }
+    }
+
+    private static boolean isNumber(@NotNull String string) {
+        if (string.isEmpty()) return false;
+        for (int i = 0; i < string.length(); i++) {
+            final char c = string.charAt(i);
+            if (c < '0' || c > '9') return false;
+        }
+        return true;
+    }
+}
@@ -5,6 +5,7 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.event.EventListener;
 import net.minestom.server.event.GlobalEventHandler;
 import net.minestom.server.event.entity.EntityAttackEvent;
 import net.minestom.server.event.player.*;
@@ -16,6 +17,8 @@ import org.jetbrains.annotations.NotNull;
 
 /**
  * Calls event-related signals.
+ * <p>
+ * The event listener of a signal is only registered while at least one script listens to it.
  */
 public enum EventSignal {
     /**
@@ -55,46 +58,91 @@ public enum EventSignal {
 
     private static final String CANCEL_MEMBER = "cancel";
 
+    private static volatile GlobalEventHandler globalEventHandler;
+
+    private EventListener<?> listener;
+    private boolean attached;
+
+    /**
+     * Gets the number of scripts listening to this signal.
+     *
+     * @return the subscriber count
+     */
+    public int getSubscriberCount() {
+        return SignalRegistry.subscribers(ordinal()).length;
+    }
+
+    /**
+     * Gets if the Minestom listener of this signal is currently registered,
+     * which is only the case while at least one script listens to it.
+     *
+     * @return true if the event listener is attached
+     */
+    public synchronized boolean isAttached() {
+        return attached;
+    }
+
+    /**
+     * Attaches or detaches the event listener based on the current subscribers.
+     * <p>
+     * Called by {@link SignalRegistry} every time the subscribers change.
+     */
+    synchronized void refresh() {
+        final GlobalEventHandler globalEventHandler = EventSignal.globalEventHandler;
+        if (globalEventHandler == null || listener == null) {
+            // Not initialized yet, attached in #init
+            return;
+        }
+        final boolean subscribed = getSubscriberCount() != 0;
+        if (subscribed == attached) return;
+        if (subscribed) {
+            globalEventHandler.addListener(listener);
+        } else {
+            globalEventHandler.removeListener(listener);
+        }
+        this.attached = subscribed;
+    }
+
     static void init(@NotNull GlobalEventHandler globalEventHandler) {
         final GlobalExecutor globalExecutor = ScriptManager.API.getExecutor();
 
         // 'player_join'
-        globalEventHandler.addListener(PlayerSpawnEvent.class, event -> {
+        PLAYER_JOIN.listener = EventListener.of(PlayerSpawnEvent.class, event -> {
             if (event.isFirstSpawn()) {
                 final Player player = event.getPlayer();
 
                 Properties properties = new Properties();
                 properties.putMember("player", new PlayerProperty(player));
-                globalExecutor.signal(PLAYER_JOIN.name(), properties);
+                globalExecutor.signalAsync(PLAYER_JOIN, properties);
             }
         });
 
         // 'move'
-        globalEventHandler.addListener(PlayerMoveEvent.class, event -> {
+        PLAYER_MOVE.listener = EventListener.of(PlayerMoveEvent.class, event -> {
             final Player player = event.getPlayer();
             final Pos position = event.getNewPosition();
 
             Properties properties = new Properties();
             properties.putMember("player", new PlayerProperty(player));
             properties.putMember("position", new PositionProperty(position));
-            ProxyObject output = globalExecutor.signal(PLAYER_MOVE.name(), properties);
+            ProxyObject output = globalExecutor.signal(PLAYER_MOVE, properties);
             event.setCancelled(isCancelled(output));
         });
 
         // 'use_item'
-        globalEventHandler.addListener(PlayerUseItemEvent.class, event -> {
+        PLAYER_USE_ITEM.listener = EventListener.of(PlayerUseItemEvent.class, event -> {
             final Player player = event.getPlayer();
             final ItemStack itemStack = event.getItemStack();
 
             Properties properties = new Properties();
             properties.putMember("player", new PlayerProperty(player));
             properties.putMember("item", new ItemProperty(itemStack));
-            ProxyObject output = globalExecutor.signal(PLAYER_USE_ITEM.name(), properties);
+            ProxyObject output = globalExecutor.signal(PLAYER_USE_ITEM, properties);
             event.setCancelled(isCancelled(output));
         });
 
         // 'use_item_block'
-        globalEventHandler.addListener(PlayerUseItemOnBlockEvent.class, event -> {
+        PLAYER_USE_ITEM_ON_BLOCK.listener = EventListener.of(PlayerUseItemOnBlockEvent.class, event -> {
             final Player player = event.getPlayer();
             final Point position = event.getPosition();
             final Block block = player.getInstance().getBlock(position);
@@ -102,11 +150,11 @@ public enum EventSignal {
             Properties properties = new Properties();
             properties.putMember("player", new PlayerProperty(player));
             properties.putMember("block", new BlockProperty(block, position));
-            globalExecutor.signal(PLAYER_USE_ITEM_ON_BLOCK.name(), properties);
+            globalExecutor.signalAsync(PLAYER_USE_ITEM_ON_BLOCK, properties);
         });
 
         // 'place_block'
-        globalEventHandler.addListener(PlayerBlockPlaceEvent.class, event -> {
+        PLAYER_BLOCK_PLACE.listener = EventListener.of(PlayerBlockPlaceEvent.class, event -> {
             final Player player = event.getPlayer();
             final Point position = event.getBlockPosition();
             final Block block = event.getBlock();
@@ -114,12 +162,12 @@ public enum EventSignal {
             Properties properties = new Properties();
             properties.putMember("player", new PlayerProperty(player));
             properties.putMember("block", new BlockProperty(block, position));
-            ProxyObject output = globalExecutor.signal(PLAYER_BLOCK_PLACE.name(), properties);
+            ProxyObject output = globalExecutor.signal(PLAYER_BLOCK_PLACE, properties);
             event.setCancelled(isCancelled(output));
         });
 
         // 'entity_interact'
-        globalEventHandler.addListener(PlayerEntityInteractEvent.class, event -> {
+        PLAYER_ENTITY_INTERACT.listener = EventListener.of(PlayerEntityInteractEvent.class, event -> {
 
             // Prevent double execution
             if (event.getHand() != Player.Hand.MAIN) {
@@ -132,19 +180,25 @@ public enum EventSignal {
             Properties properties = new Properties();
             properties.putMember("player", new PlayerProperty(player));
             properties.putMember("target", Properties.fromEntity(target));
-            globalExecutor.signal(PLAYER_ENTITY_INTERACT.name(), properties);
+            globalExecutor.signalAsync(PLAYER_ENTITY_INTERACT, properties);
         });
 
         // 'attack'
-        globalEventHandler.addListener(EntityAttackEvent.class, event -> {
+        ENTITY_ATTACK.listener = EventListener.of(EntityAttackEvent.class, event -> {
             final Entity entity = event.getEntity();
             final Entity target = event.getTarget();
 
             Properties properties = new Properties();
             properties.putMember("entity", Properties.fromEntity(entity));
             properties.putMember("target", Properties.fromEntity(target));
-            globalExecutor.signal(ENTITY_ATTACK.name(), properties);
+            globalExecutor.signalAsync(ENTITY_ATTACK, properties);
         });
+
+        EventSignal.globalEventHandler = globalEventHandler;
+        // Scripts may have subscribed before the initialization
+        for (EventSignal signal : values()) {
+            signal.refresh();
+        }
     }
 
     private static boolean isCancelled(ProxyObject output) {
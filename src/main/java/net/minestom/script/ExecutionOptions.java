@@ -1,10 +1,75 @@
 package net.minestom.script;
 
+import net.minestom.script.property.HostProperty;
+import net.minestom.script.property.PlayerProperty;
+import net.minestom.server.command.CommandSender;
+import net.minestom.server.command.ServerSender;
+import net.minestom.server.entity.Player;
+import net.minestom.server.utils.validate.Check;
 import org.graalvm.polyglot.proxy.ProxyObject;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.util.Map;
+
+/**
+ * Options of an executor created with {@link GlobalExecutor#with(ExecutionOptions)}.
+ */
 public class ExecutionOptions {
 
-    private ProxyObject as;
-    private boolean silent;
+    static final ExecutionOptions DEFAULT = new ExecutionOptions(null, false);
+    private static final ServerSender SERVER_SENDER = new ServerSender();
+
+    private final ProxyObject as;
+    private final boolean silent;
+
+    public ExecutionOptions(@Nullable ProxyObject as, boolean silent) {
+        Check.argCondition(as != null && !(as instanceof PlayerProperty),
+                "The command sender must be a player!");
+        this.as = as;
+        this.silent = silent;
+    }
+
+    /**
+     * Creates options from a script object.
+     *
+     * @param map the script object, with the optional 'as' and 'silent' members
+     * @return the execution options
+     */
+    public static @NotNull ExecutionOptions fromMap(@NotNull Map<?, ?> map) {
+        final Object as = map.get("as");
+        final Object silent = map.get("silent");
+        Check.argCondition(as != null && !(as instanceof ProxyObject),
+                "The command sender must be a player!");
+        return new ExecutionOptions((ProxyObject) as, Boolean.TRUE.equals(silent));
+    }
+
+    /**
+     * Gets the sender of the commands.
+     *
+     * @return the sender property, null for the server
+     */
+    public @Nullable ProxyObject getAs() {
+        return as;
+    }
+
+    /**
+     * Gets if the command feedback is skipped.
+     *
+     * @return true if the commands do not send any message
+     */
+    public boolean isSilent() {
+        return silent;
+    }
 
+    /**
+     * Resolves the sender to execute the commands as.
+     *
+     * @return the sender, null if the player is not online anymore
+     */
+    @Nullable CommandSender resolveSender() {
+        if (as == null) return SERVER_SENDER;
+        final Object host = ((HostProperty) as).getHostObject();
+        return host instanceof Player player ? player : null;
+    }
 }
@@ -2,11 +2,41 @@ package net.minestom.script;
 
 import org.graalvm.polyglot.proxy.ProxyObject;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.List;
 
 public interface Executor {
 
     ProxyObject run(Object... args);
 
+    /**
+     * Executes multiple commands in order with a single call from the script.
+     * <p>
+     * Each command is either a string or a list of inputs given to {@link #run(Object...)}.
+     *
+     * @param commands       the commands to execute
+     * @param collectResults false to skip the return data of the commands
+     * @return the return data of each command, null if not collected
+     */
+    @Nullable
+    Object[] batch(@NotNull List<?> commands, boolean collectResults);
+
+    @NotNull
+    default Object[] batch(@NotNull List<?> commands) {
+        return batch(commands, true);
+    }
+
+    /**
+     * Executes multiple commands whose results are ignored.
+     *
+     * @param commands the commands to execute
+     * @see #batch(List, boolean)
+     */
+    default void runAll(@NotNull List<?> commands) {
+        batch(commands, false);
+    }
+
     @NotNull
     CommandFunction make(@NotNull String alias, @NotNull ProxyObjectMapper mapper);
 
@@ -3,11 +3,14 @@ package net.minestom.script;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.script.command.RichCommand;
+import net.minestom.script.property.HostProperty;
 import net.minestom.script.property.PlayerProperty;
 import net.minestom.script.property.Properties;
 import net.minestom.script.utils.CommandUtils;
 import net.minestom.script.utils.ExceptionUtils;
+import net.minestom.script.utils.HostArguments;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.command.CommandSender;
 import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandResult;
 import net.minestom.server.command.builder.arguments.ArgumentType;
@@ -19,11 +22,11 @@ import org.graalvm.polyglot.Value;
 import org.graalvm.polyglot.proxy.ProxyObject;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.jglrxavpok.hephaistos.nbt.NBT;
 
-import java.text.MessageFormat;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.stream.Collectors;
 
 /**
@@ -33,7 +36,8 @@ import java.util.stream.Collectors;
  */
 public class GlobalExecutor implements Executor {
 
-    private final static List<GlobalExecutor> GLOBAL_EXECUTORS = new CopyOnWriteArrayList<>();
+    private static final SignalCallback[] NO_LISTENER = new SignalCallback[0];
+    private static final ProxyObject EMPTY_OUTPUT = ProxyObject.fromMap(Collections.emptyMap());
 
     /**
      * Returns all the signals ever registered.
@@ -44,22 +48,61 @@ public class GlobalExecutor implements Executor {
      */
     public static @NotNull Set<String> retrieveSignals() {
         Set<String> signals = new HashSet<>();
-        for (GlobalExecutor executor : GLOBAL_EXECUTORS) {
-            signals.addAll(executor.signalMap.keySet());
+        for (int id = 0; id < SignalRegistry.size(); id++) {
+            if (SignalRegistry.subscribers(id).length != 0) {
+                signals.add(SignalRegistry.name(id));
+            }
         }
         return Collections.unmodifiableSet(signals);
     }
 
-    private final Map<String, List<SignalCallback>> signalMap = new ConcurrentHashMap<>();
+    /**
+     * Gets the number of scripts listening to a signal.
+     *
+     * @param signal the signal name
+     * @return the subscriber count
+     * @see EventSignal#getSubscriberCount()
+     */
+    public static int getSubscriberCount(@NotNull String signal) {
+        final int id = SignalRegistry.lookup(signal);
+        return id != SignalRegistry.UNKNOWN ? SignalRegistry.subscribers(id).length : 0;
+    }
+
+    // Callbacks indexed by signal id, see SignalRegistry
+    private volatile SignalCallback[][] listeners = new SignalCallback[0][];
     private final Map<String, Command> commandMap = new ConcurrentHashMap<>();
 
     protected volatile Script script;
+    // Index of the script context bound to this executor, see Script#selectExecutor()
+    int slot;
+    private boolean registered;
 
     @Override
     public ProxyObject run(@NotNull Object... inputs) {
-        final String command = inputToString(inputs);
-        final CommandResult result = MinecraftServer.getCommandManager().executeServerCommand(command);
-        return CommandUtils.retrieveCommandData(result, command);
+        return execute(ExecutionOptions.DEFAULT, inputs, true);
+    }
+
+    @Override
+    public @Nullable Object[] batch(@NotNull List<?> commands, boolean collectResults) {
+        return batch(ExecutionOptions.DEFAULT, commands, collectResults);
+    }
+
+    private @Nullable Object[] batch(@NotNull ExecutionOptions options, @NotNull List<?> commands, boolean collectResults) {
+        final Object[] results = collectResults ? new Object[commands.size()] : null;
+        for (int i = 0; i < commands.size(); i++) {
+            final Object command = commands.get(i);
+            final Object[] inputs = command instanceof List<?> list ? list.toArray() : new Object[]{command};
+            try {
+                final ProxyObject result = execute(options, inputs, collectResults);
+                if (collectResults) {
+                    results[i] = result;
+                }
+            } catch (Throwable e) {
+                // Do not prevent the next commands from being executed
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+        return results;
     }
 
     public @Nullable ProxyObject runAs(@NotNull Value playerValue, @NotNull Object... inputs) {
@@ -70,60 +113,230 @@ public class GlobalExecutor implements Executor {
         }
         final PlayerProperty playerProperty = playerValue.asProxyObject();
 
-        final UUID uuid = UUID.fromString(((Value) playerProperty.getMember("uuid")).asString());
-        final Player player = MinecraftServer.getConnectionManager().getOnlinePlayerByUuid(uuid);
+        final Player player = (Player) playerProperty.getHostObject();
         if (player == null)
             return null;
 
         final String command = inputToString(inputs);
-        final CommandResult result = MinecraftServer.getCommandManager().execute(player, command);
-        return CommandUtils.retrieveCommandData(result, command);
+        final var previous = HostArguments.bind(inputs);
+        try {
+            final CommandResult result = MinecraftServer.getCommandManager().execute(player, command);
+            return CommandUtils.retrieveCommandData(result, command);
+        } finally {
+            HostArguments.restore(previous);
+        }
     }
 
     public @NotNull CommandFunction make(@NotNull String string, @NotNull ProxyObjectMapper mapper) {
+        return make(ExecutionOptions.DEFAULT, string, mapper);
+    }
+
+    private @NotNull CommandFunction make(@NotNull ExecutionOptions options, @NotNull String string,
+                                          @NotNull ProxyObjectMapper mapper) {
+        final CommandTemplate template = CommandTemplate.compile(string);
         return args -> {
-            final String input = MessageFormat.format(string, args);
+            final Script script = this.script;
             try {
                 if (script != null) {
-                    script.enter();
+                    script.enter(slot);
                 }
-                return mapper.map(run(input));
+                return mapper.map(template.run(options, args));
             } catch (Throwable e) {
                 MinecraftServer.getExceptionManager().handleException(e);
                 return Value.asValue(null);
             } finally {
                 if (script != null) {
-                    script.leave();
+                    script.leave(slot);
                 }
             }
         };
     }
 
-    public Executor with(@NotNull ExecutionOptions options) {
-        throw new UnsupportedOperationException("TODO #with(options)");
+    /**
+     * Creates an executor running the commands of this script with different options.
+     *
+     * @param options the execution options
+     * @return an executor bound to the sender and feedback mode of the options
+     */
+    public @NotNull Executor with(@NotNull ExecutionOptions options) {
+        return new BoundExecutor(options);
     }
 
     public void onSignal(@NotNull String signal, @NotNull SignalCallback callback) {
-        var listeners = signalMap.computeIfAbsent(signal.toLowerCase(), s -> new CopyOnWriteArrayList<>());
-        listeners.add((properties, output) ->
-                accessScript(script, () -> callback.accept(properties, output)));
+        checkStatelessRegistration();
+        final int id = SignalRegistry.id(signal);
+        final SignalCallback wrapped = (properties, output) ->
+                accessScript(script, slot, () -> callback.accept(properties, output));
+        synchronized (this) {
+            SignalCallback[][] listeners = this.listeners;
+            if (id >= listeners.length) {
+                listeners = Arrays.copyOf(listeners, id + 1);
+            } else {
+                listeners = listeners.clone();
+            }
+            final SignalCallback[] current = listeners[id] != null ? listeners[id] : NO_LISTENER;
+            SignalCallback[] updated = Arrays.copyOf(current, current.length + 1);
+            updated[current.length] = wrapped;
+            listeners[id] = updated;
+            this.listeners = listeners;
+            if (registered) {
+                SignalRegistry.subscribe(id, this);
+            }
+        }
     }
 
     public @NotNull ProxyObject signal(@NotNull String signal, @NotNull Properties properties) {
+        final int id = SignalRegistry.lookup(signal);
+        return id != SignalRegistry.UNKNOWN ? signal(id, properties) : EMPTY_OUTPUT;
+    }
+
+    /**
+     * Triggers an event signal, skipping the name lookup.
+     *
+     * @param signal     the event signal
+     * @param properties the signal properties
+     * @return the signal output
+     */
+    public @NotNull ProxyObject signal(@NotNull EventSignal signal, @NotNull Properties properties) {
+        return signal(signal.ordinal(), properties);
+    }
+
+    private @NotNull ProxyObject signal(int id, @NotNull Properties properties) {
+        final GlobalExecutor[] subscribers = SignalRegistry.subscribers(id);
+        if (subscribers.length == 0) return EMPTY_OUTPUT;
+        if (ScriptManager.isParallelSignals() && subscribers.length > 1 && !Script.isInsideScript()) {
+            return signalParallel(subscribers, id, properties);
+        }
         ProxyObject result = ProxyObject.fromMap(new HashMap<>());
-        for (GlobalExecutor globalExecutor : GLOBAL_EXECUTORS) {
-            List<SignalCallback> listeners = globalExecutor.signalMap.get(signal.toLowerCase());
-            if (listeners != null && !listeners.isEmpty()) {
+        for (GlobalExecutor globalExecutor : subscribers) {
+            for (SignalCallback callback : globalExecutor.selectExecutor().listeners(id)) {
+                // Callback should be thread-safe
+                callback.accept(properties, result);
+            }
+        }
+        return result;
+    }
+
+    private static @NotNull ProxyObject signalParallel(@NotNull GlobalExecutor[] subscribers, int id,
+                                                       @NotNull Properties properties) {
+        List<Map<String, Object>> outputs = new ArrayList<>(subscribers.length);
+        List<CompletableFuture<Void>> futures = new ArrayList<>(subscribers.length);
+        Runnable inline = null;
+        for (GlobalExecutor globalExecutor : subscribers) {
+            final SignalCallback[] listeners = globalExecutor.selectExecutor().listeners(id);
+            if (listeners.length == 0) continue;
+            // Each script writes to its own output, merged afterward
+            Map<String, Object> output = new HashMap<>();
+            outputs.add(output);
+            final ProxyObject proxyOutput = ProxyObject.fromMap(output);
+            final Runnable dispatch = () -> {
                 for (SignalCallback callback : listeners) {
-                    // Callback should be thread-safe
-                    callback.accept(properties, result);
+                    callback.accept(properties, proxyOutput);
                 }
+            };
+            if (inline == null) {
+                // Keep one script for the calling thread
+                inline = dispatch;
+            } else {
+                futures.add(CompletableFuture.runAsync(dispatch, ScriptManager.getSignalExecutor()));
             }
         }
-        return result;
+        if (inline != null) {
+            inline.run();
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+
+        // Merge in registration order, later scripts override earlier ones like the sequential dispatch
+        Map<String, Object> result = new HashMap<>();
+        for (Map<String, Object> output : outputs) {
+            result.putAll(output);
+        }
+        return ProxyObject.fromMap(result);
+    }
+
+    /**
+     * Triggers a signal whose output is not needed by the caller.
+     * <p>
+     * Listeners are executed on their script event loop when enabled, concurrently
+     * when signals are dispatched in parallel, and on the calling thread otherwise.
+     *
+     * @param signal     the signal name
+     * @param properties the signal properties
+     * @see ScriptManager#setEventLoop(boolean)
+     * @see ScriptManager#setParallelSignals(boolean)
+     */
+    public void signalAsync(@NotNull String signal, @NotNull Properties properties) {
+        final int id = SignalRegistry.lookup(signal);
+        if (id != SignalRegistry.UNKNOWN) {
+            signalAsync(id, properties);
+        }
+    }
+
+    /**
+     * Triggers an event signal whose output is not needed by the caller, skipping the name lookup.
+     *
+     * @param signal     the event signal
+     * @param properties the signal properties
+     * @see #signalAsync(String, Properties)
+     */
+    public void signalAsync(@NotNull EventSignal signal, @NotNull Properties properties) {
+        signalAsync(signal.ordinal(), properties);
+    }
+
+    private void signalAsync(int id, @NotNull Properties properties) {
+        final GlobalExecutor[] subscribers = SignalRegistry.subscribers(id);
+        if (subscribers.length == 0) return;
+        // Listeners may run concurrently on different event loops
+        final ProxyObject output = ProxyObject.fromMap(new ConcurrentHashMap<>());
+        for (GlobalExecutor globalExecutor : subscribers) {
+            final SignalCallback[] listeners = globalExecutor.selectExecutor().listeners(id);
+            if (listeners.length == 0) continue;
+            final Runnable dispatch = () -> {
+                for (SignalCallback callback : listeners) {
+                    callback.accept(properties, output);
+                }
+            };
+            final Script script = globalExecutor.script;
+            if (script != null) {
+                script.executeSignal(dispatch);
+            } else {
+                dispatch.run();
+            }
+        }
+    }
+
+    /**
+     * Gets if this executor listens to a signal.
+     *
+     * @param id the signal id
+     * @return true if at least one callback is registered for the signal
+     */
+    boolean hasListeners(int id) {
+        final Script script = this.script;
+        // The primary executor is subscribed on behalf of all the contexts of its script
+        if (script != null && slot == 0 && script.contextCount() > 1) {
+            return script.hasListeners(id);
+        }
+        return hasOwnListeners(id);
+    }
+
+    boolean hasOwnListeners(int id) {
+        return listeners(id).length != 0;
+    }
+
+    private @NotNull SignalCallback[] listeners(int id) {
+        final SignalCallback[][] listeners = this.listeners;
+        if (id >= listeners.length) return NO_LISTENER;
+        final SignalCallback[] callbacks = listeners[id];
+        return callbacks != null ? callbacks : NO_LISTENER;
     }
 
     public synchronized void registerCommand(@NotNull String format, @NotNull CommandCallback callback) {
+        if (slot != 0) {
+            checkStatelessRegistration();
+            // Commands are only registered by the primary context of stateless scripts
+            return;
+        }
         String commandName;
         if (format.contains(StringUtils.SPACE)) {
             final int index = format.indexOf(StringUtils.SPACE);
@@ -157,53 +370,186 @@ public class GlobalExecutor implements Executor {
                 properties.putMember(key, value);
             }
 
-            accessScript(script, () -> callback.accept(playerProperty, properties));
+            final Script script = this.script;
+            final Runnable execution = () -> accessScript(script, slot, () -> callback.accept(playerProperty, properties));
+            if (script != null) {
+                script.execute(execution);
+            } else {
+                execution.run();
+            }
         }, ArgumentType.generate(format));
 
         this.commandMap.put(commandName, command);
-        MinecraftServer.getCommandManager().register(command);
-        CommandUtils.updateCommands();
+        if (registered) {
+            MinecraftServer.getCommandManager().register(command);
+            CommandUtils.updateCommands();
+        }
+        // Otherwise the command is registered with the executor
+    }
+
+    protected void register() {
+        if (registerCommands()) {
+            CommandUtils.updateCommands();
+        }
+        SignalRegistry.subscribeAll(List.of(this));
+    }
+
+    /**
+     * Registers multiple executors at once, commands are sent to the players
+     * a single time and signals become visible to all executors in one step.
+     *
+     * @param executors the executors to register
+     */
+    static void registerAll(@NotNull Collection<GlobalExecutor> executors) {
+        boolean hasCommand = false;
+        for (GlobalExecutor executor : executors) {
+            hasCommand |= executor.registerCommands();
+        }
+        if (hasCommand) {
+            CommandUtils.updateCommands();
+        }
+        SignalRegistry.subscribeAll(executors);
     }
 
-    protected synchronized void register() {
-        GLOBAL_EXECUTORS.add(this);
+    /**
+     * Replaces a registered executor, commands are swapped with a single update
+     * and signals are redirected to the new executor without any gap.
+     *
+     * @param previous the executor to replace
+     * @param executor the replacement
+     */
+    static void replace(@NotNull GlobalExecutor previous, @NotNull GlobalExecutor executor) {
+        boolean hasCommand = previous.unregisterCommands();
+        hasCommand |= executor.registerCommands();
+        SignalRegistry.replace(previous, executor);
+        previous.listeners = new SignalCallback[0][];
+        if (hasCommand) {
+            CommandUtils.updateCommands();
+        }
     }
 
     protected synchronized void unregister() {
         // Clear signals
-        this.signalMap.clear();
+        SignalRegistry.unsubscribe(this);
+        this.listeners = new SignalCallback[0][];
 
         // Clear registered commands
+        if (unregisterCommands()) {
+            CommandUtils.updateCommands();
+        }
+    }
+
+    private synchronized boolean registerCommands() {
+        this.registered = true;
+        this.commandMap.forEach((s, command) ->
+                MinecraftServer.getCommandManager().register(command));
+        return !commandMap.isEmpty();
+    }
+
+    private synchronized boolean unregisterCommands() {
         final boolean hasCommand = !commandMap.isEmpty();
-        if (hasCommand) {
+        if (registered) {
             this.commandMap.forEach((s, command) ->
                     MinecraftServer.getCommandManager().unregister(command));
-            this.commandMap.clear();
-            CommandUtils.updateCommands();
         }
+        this.commandMap.clear();
+        this.registered = false;
+        return hasCommand;
+    }
 
-        GLOBAL_EXECUTORS.remove(this);
+    /**
+     * Rejects the registrations done from the callbacks of a stateless script,
+     * each callback is executed by any of its contexts.
+     */
+    private void checkStatelessRegistration() {
+        final Script script = this.script;
+        Check.stateCondition(script != null && script.contextCount() > 1 && script.isEvaluated(),
+                "Stateless scripts must register their signals and commands during their evaluation");
     }
 
-    private static void accessScript(@Nullable Script script, @NotNull Runnable runnable) {
-        try {
-            if (script != null) {
-                script.enter();
+    private @NotNull GlobalExecutor selectExecutor() {
+        final Script script = this.script;
+        return script != null ? script.selectExecutor() : this;
+    }
+
+    private static void accessScript(@Nullable Script script, int slot, @NotNull Runnable runnable) {
+        if (script == null) {
+            try {
+                runnable.run();
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
             }
+            return;
+        }
+        // Script has been unloaded or replaced while waiting
+        if (!script.tryEnter(slot)) return;
+        try {
             runnable.run();
         } catch (Throwable e) {
             MinecraftServer.getExceptionManager().handleException(e);
         } finally {
-            if (script != null) {
-                script.leave();
+            script.leave(slot);
+        }
+    }
+
+    private @Nullable ProxyObject execute(@NotNull ExecutionOptions options, @NotNull Object[] inputs,
+                                          boolean collectResult) {
+        final CommandSender sender = options.resolveSender();
+        if (sender == null) return null;
+        final String command = inputToString(inputs);
+        final var previous = HostArguments.bind(inputs);
+        final boolean silent = CommandUtils.setSilent(options.isSilent());
+        try {
+            final CommandResult result = MinecraftServer.getCommandManager().execute(sender, command);
+            if (!collectResult) {
+                CommandUtils.checkResult(result, command);
+                return null;
             }
+            return CommandUtils.retrieveCommandData(result, command);
+        } finally {
+            CommandUtils.setSilent(silent);
+            HostArguments.restore(previous);
         }
     }
 
     private static String inputToString(Object... inputs) {
         return Arrays.stream(inputs)
-                .map(Object::toString)
+                .map(GlobalExecutor::argumentToString)
                 .collect(Collectors.joining(StringUtils.SPACE));
     }
 
+    static String argumentToString(Object input) {
+        if (input instanceof HostProperty hostProperty) {
+            return hostProperty.toArgument();
+        }
+        return input instanceof NBT nbt ? nbt.toSNBT() : String.valueOf(input);
+    }
+
+    /**
+     * Executor returned by {@link #with(ExecutionOptions)}, sharing the script of its parent.
+     */
+    private final class BoundExecutor implements Executor {
+
+        private final ExecutionOptions options;
+
+        private BoundExecutor(@NotNull ExecutionOptions options) {
+            this.options = options;
+        }
+
+        @Override
+        public ProxyObject run(@NotNull Object... inputs) {
+            return execute(options, inputs, true);
+        }
+
+        @Override
+        public @Nullable Object[] batch(@NotNull List<?> commands, boolean collectResults) {
+            return GlobalExecutor.this.batch(options, commands, collectResults);
+        }
+
+        @Override
+        public @NotNull CommandFunction make(@NotNull String string, @NotNull ProxyObjectMapper mapper) {
+            return GlobalExecutor.this.make(options, string, mapper);
+        }
+    }
+
 }
@@ -1,82 +1,347 @@
 package net.minestom.script;
 
+import net.minestom.script.property.HostProperty;
+import net.minestom.script.property.NbtCompoundView;
+import net.minestom.script.property.NbtView;
 import net.minestom.script.property.Properties;
 import net.minestom.script.utils.FileUtils;
 import net.minestom.script.utils.NbtConversionUtils;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.item.ItemStack;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.HostAccess;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.graalvm.polyglot.proxy.ProxyObject;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 
 import java.nio.file.Path;
+import java.time.Duration;
+import java.util.Arrays;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.locks.ReentrantLock;
 
 public final class Script {
+    // Number of script contexts entered by the current thread
+    private static final ThreadLocal<int[]> ENTERED = ThreadLocal.withInitial(() -> new int[1]);
+
     private final String name;
     private final String source;
     private final String language;
+    private final String hash;
+    private final ScriptManifest manifest;
     private final GlobalExecutor globalExecutor;
 
-    private boolean loaded;
-    private volatile Context context;
-    private final ReentrantLock lock = new ReentrantLock();
+    private volatile boolean loaded;
+    // Set once every context evaluated the source, see #isEvaluated()
+    private volatile boolean evaluated;
+    // Unloaded but still executing the callbacks posted before, see #close()
+    private volatile boolean closing;
+    // Index 0 is the primary context, others are only created for stateless scripts
+    private volatile Slot[] slots = new Slot[0];
+    private final AtomicInteger nextSlot = new AtomicInteger();
+    private volatile Duration loadTime = Duration.ZERO;
+    private volatile ScriptEventLoop eventLoop;
 
-    private Script(@NotNull String name, @NotNull String language, @NotNull String source, @NotNull GlobalExecutor globalExecutor) {
+    private Script(@NotNull String name, @NotNull String language, @NotNull String source,
+                   @NotNull ScriptManifest manifest, @NotNull GlobalExecutor globalExecutor) {
         this.name = name;
         this.source = source;
         this.language = language;
+        this.hash = FileUtils.hash(source);
+        this.manifest = manifest;
         this.globalExecutor = globalExecutor;
     }
 
+    public static Script fromString(String name, String language, String source, ScriptManifest manifest, GlobalExecutor executor) {
+        return new Script(name, language, source, manifest, executor);
+    }
+
     public static Script fromString(String name, String language, String source, GlobalExecutor executor) {
-        return new Script(name, language, source, executor);
+        return fromString(name, language, source, ScriptManifest.DEFAULT, executor);
+    }
+
+    public static Script fromFile(String name, String language, Path source, ScriptManifest manifest, GlobalExecutor executor) {
+        return new Script(name, language, FileUtils.readFile(source), manifest, executor);
     }
 
     public static Script fromFile(String name, String language, Path source, GlobalExecutor executor) {
-        return new Script(name, language, FileUtils.readFile(source), executor);
+        return fromFile(name, language, source, ScriptManifest.DEFAULT, executor);
     }
 
-    public void load() {
+    public synchronized void load() {
+        if (closing) {
+            System.err.println("Script '" + name + "' is still unloading!");
+            return;
+        }
         if (loaded) return;
-        this.loaded = true;
-        final Source source = Source.create(language, this.source);
-        assert source != null;
-        this.context = createContext(source.getLanguage(), globalExecutor);
-        sync(() -> context.eval(source));
+        evaluate();
         this.globalExecutor.register();
     }
 
-    public void unload() {
-        if (!loaded) return;
-        this.loaded = false;
+    /**
+     * Creates the context(s) and evaluates the source without registering the script executor.
+     * <p>
+     * Commands and signals declared during the evaluation stay pending until
+     * {@link GlobalExecutor#register()} is called.
+     */
+    void evaluate() {
+        this.loaded = true;
+        final int contextCount = manifest.stateless() ? manifest.contexts() : 1;
+        if (ScriptManager.isEventLoop() && contextCount == 1) {
+            // A pool of contexts is already executed concurrently by the callers
+            this.eventLoop = new ScriptEventLoop(name, ScriptManager.getMailboxCapacity());
+        }
+        final Source source = ScriptManager.getSource(name, language, this.source);
+        final long start = System.nanoTime();
+        try {
+            Slot[] slots = new Slot[contextCount];
+            for (int i = 0; i < contextCount; i++) {
+                GlobalExecutor executor = globalExecutor;
+                if (i != 0) {
+                    // Each context registers its own listeners
+                    executor = new GlobalExecutor();
+                    executor.script = this;
+                    executor.slot = i;
+                }
+                final Context context = createContext(source.getLanguage(), executor);
+                slots[i] = new Slot(context, executor);
+                this.slots = Arrays.copyOf(slots, i + 1);
+                sync(i, () -> context.eval(source));
+            }
+            this.evaluated = true;
+        } finally {
+            this.loadTime = Duration.ofNanos(System.nanoTime() - start);
+        }
+    }
+
+    public synchronized void unload() {
+        if (!loaded || closing) return;
         this.globalExecutor.unregister();
-        this.context.close();
+        close();
+    }
+
+    /**
+     * Unloads a script whose executor has already been replaced, see {@link GlobalExecutor#replace(GlobalExecutor, GlobalExecutor)}.
+     * <p>
+     * Callbacks already posted to the event loop are still executed.
+     */
+    synchronized void retire() {
+        if (!loaded || closing) return;
+        close();
+    }
+
+    /**
+     * Closes the contexts, never waiting for the event loop.
+     * <p>
+     * With an event loop, the callbacks posted before are executed while the script is still loaded
+     * and the contexts are then closed from the loop thread.
+     */
+    private void close() {
+        final ScriptEventLoop eventLoop = this.eventLoop;
+        if (eventLoop != null) {
+            // Tasks posted from now on are rejected by the closed loop
+            this.closing = true;
+            eventLoop.close(this::closeContexts);
+        } else {
+            closeContexts();
+        }
+    }
+
+    private void closeContexts() {
+        final Slot[] slots = this.slots;
+        this.loaded = false;
+        this.evaluated = false;
+        for (Slot slot : slots) {
+            // Wait for the in-flight callbacks to finish
+            slot.lock.lock();
+            try {
+                slot.context.close();
+            } finally {
+                slot.lock.unlock();
+            }
+        }
+        // From the loop thread, the monitor is only taken once the callbacks are finished
+        synchronized (this) {
+            this.eventLoop = null;
+            this.closing = false;
+        }
     }
 
     public void sync(@NotNull Runnable runnable) {
-        enter();
-        runnable.run();
-        leave();
+        sync(0, runnable);
+    }
+
+    private void sync(int slot, @NotNull Runnable runnable) {
+        enter(slot);
+        try {
+            runnable.run();
+        } finally {
+            leave(slot);
+        }
     }
 
     void enter() {
-        this.lock.lock();
-        if (context != null) {
-            this.context.enter();
+        enter(0);
+    }
+
+    void enter(int index) {
+        final Slot[] slots = this.slots;
+        if (index >= slots.length) {
+            // No context yet, nothing to enter
+            ENTERED.get()[0]++;
+            return;
+        }
+        final Slot slot = slots[index];
+        slot.lock.lock();
+        try {
+            slot.context.enter();
+        } catch (Throwable e) {
+            slot.lock.unlock();
+            throw e;
+        }
+        ENTERED.get()[0]++;
+    }
+
+    /**
+     * Executes a task whose result is not needed by the caller.
+     * <p>
+     * The task is posted to the script event loop if enabled, and executed on the calling thread otherwise.
+     *
+     * @param runnable the task to execute
+     */
+    void execute(@NotNull Runnable runnable) {
+        final ScriptEventLoop eventLoop = this.eventLoop;
+        if (eventLoop != null) {
+            if (eventLoop.isLoopThread()) {
+                runnable.run();
+            } else {
+                eventLoop.post(runnable);
+            }
+        } else {
+            runnable.run();
         }
     }
 
+    /**
+     * Executes the listeners of a signal whose output is not needed by the caller.
+     * <p>
+     * Same as {@link #execute(Runnable)}, but the signal workers are used instead of
+     * the calling thread when signals are dispatched in parallel.
+     *
+     * @param runnable the listeners dispatch
+     * @see ScriptManager#setParallelSignals(boolean)
+     */
+    void executeSignal(@NotNull Runnable runnable) {
+        if (eventLoop == null && ScriptManager.isParallelSignals()) {
+            ScriptManager.getSignalExecutor().execute(runnable);
+        } else {
+            execute(runnable);
+        }
+    }
+
+    /**
+     * Enters a context of the script only if it is still loaded.
+     *
+     * @param index the context index
+     * @return true if the context has been entered, {@link #leave(int)} must then be called
+     */
+    boolean tryEnter(int index) {
+        final Slot[] slots = this.slots;
+        if (index >= slots.length) return false;
+        final Slot slot = slots[index];
+        slot.lock.lock();
+        if (!loaded) {
+            slot.lock.unlock();
+            return false;
+        }
+        try {
+            slot.context.enter();
+        } catch (Throwable e) {
+            slot.lock.unlock();
+            throw e;
+        }
+        ENTERED.get()[0]++;
+        return true;
+    }
+
     void leave() {
-        this.lock.unlock();
-        if (context != null) {
-            this.context.leave();
+        leave(0);
+    }
+
+    void leave(int index) {
+        final Slot[] slots = this.slots;
+        ENTERED.get()[0]--;
+        // The context may have been created since #enter(int)
+        if (index >= slots.length || !slots[index].lock.isHeldByCurrentThread()) return;
+        final Slot slot = slots[index];
+        slot.context.leave();
+        slot.lock.unlock();
+    }
+
+    /**
+     * Gets if the current thread is executing a script, waiting on another script
+     * from there could deadlock.
+     *
+     * @return true if the current thread entered a script context
+     */
+    static boolean isInsideScript() {
+        return ENTERED.get()[0] > 0;
+    }
+
+    /**
+     * Gets if one of the contexts listens to a signal, the contexts of a stateless script
+     * are expected to register the same listeners but are not required to.
+     *
+     * @param id the signal id
+     * @return true if at least one context has a callback for the signal
+     */
+    boolean hasListeners(int id) {
+        for (Slot slot : slots) {
+            if (slot.executor.hasOwnListeners(id)) return true;
         }
+        return false;
+    }
+
+    /**
+     * Gets if the source has been evaluated by all the contexts, stateless scripts
+     * cannot register listeners or commands anymore from this point.
+     *
+     * @return true if the evaluation is complete
+     */
+    boolean isEvaluated() {
+        return evaluated;
+    }
+
+    /**
+     * Selects the executor of the context which should handle the next callback.
+     * <p>
+     * Always the primary executor unless the script is stateless, in which case
+     * a context not used by another thread is preferred.
+     *
+     * @return the executor whose listeners should be called
+     */
+    @NotNull GlobalExecutor selectExecutor() {
+        final Slot[] slots = this.slots;
+        if (slots.length <= 1) return globalExecutor;
+        for (Slot slot : slots) {
+            // Avoid waiting on another context while holding one
+            if (slot.lock.isHeldByCurrentThread()) return slot.executor;
+        }
+        for (Slot slot : slots) {
+            if (!slot.lock.isLocked()) return slot.executor;
+        }
+        // All contexts are busy, spread the waiting threads
+        final int index = Math.floorMod(nextSlot.getAndIncrement(), slots.length);
+        return slots[index].executor;
     }
 
     public @NotNull String name() {
@@ -91,20 +356,72 @@ public final class Script {
         return source;
     }
 
+    /**
+     * Gets the event loop executing the script callbacks.
+     *
+     * @return the event loop, null if the script is not loaded or if event loops are disabled
+     * @see ScriptManager#setEventLoop(boolean)
+     */
+    public @Nullable ScriptEventLoop eventLoop() {
+        return eventLoop;
+    }
+
+    /**
+     * Gets the hash of the evaluated source, used to detect modifications.
+     *
+     * @return the source hash
+     */
+    public @NotNull String hash() {
+        return hash;
+    }
+
     public @NotNull GlobalExecutor executor() {
         return globalExecutor;
     }
 
     public boolean isLoaded() {
-        return loaded;
+        return loaded && !closing;
     }
 
     public Context context() {
-        return context;
+        final Slot[] slots = this.slots;
+        return slots.length != 0 ? slots[0].context : null;
+    }
+
+    public @NotNull ScriptManifest manifest() {
+        return manifest;
+    }
+
+    /**
+     * Gets the number of contexts evaluating this script.
+     *
+     * @return the context count, higher than 1 only for loaded stateless scripts
+     */
+    public int contextCount() {
+        return slots.length;
+    }
+
+    /**
+     * Gets the time spent creating the context and evaluating the source during the last {@link #load()}.
+     * <p>
+     * Compiled code is shared between contexts of the same engine,
+     * so reloads and sibling scripts are expected to be faster than the first evaluation.
+     *
+     * @return the last load duration, {@link Duration#ZERO} if never loaded
+     */
+    public @NotNull Duration loadTime() {
+        return loadTime;
     }
 
     private static Context createContext(String language, GlobalExecutor globalExecutor) {
         HostAccess hostAccess = HostAccess.newBuilder(HostAccess.ALL)
+                // Copy typed arrays to java arrays, converted to primitive nbt arrays
+                .targetTypeMapping(
+                        Value.class,
+                        Object.class,
+                        NbtConversionUtils::isTypedArray,
+                        NbtConversionUtils::fromTypedArray,
+                        HostAccess.TargetMappingPrecedence.HIGHEST)
                 // Fix list being sent as map
                 .targetTypeMapping(
                         List.class,
@@ -112,6 +429,50 @@ public final class Script {
                         Objects::nonNull,
                         v -> v,
                         HostAccess.TargetMappingPrecedence.HIGHEST)
+                // Hand over the original nbt of unmodified views
+                .targetTypeMapping(
+                        NbtView.class,
+                        Object.class,
+                        Objects::nonNull,
+                        NbtView::nbt,
+                        HostAccess.TargetMappingPrecedence.HIGHEST)
+                .targetTypeMapping(
+                        NbtCompoundView.class,
+                        NBTCompound.class,
+                        Objects::nonNull,
+                        NbtCompoundView::nbt)
+                // Unwrap properties given to the typed api
+                .targetTypeMapping(
+                        HostProperty.class,
+                        Entity.class,
+                        property -> property.getHostObject() instanceof Entity,
+                        property -> (Entity) property.getHostObject())
+                .targetTypeMapping(
+                        HostProperty.class,
+                        Point.class,
+                        property -> property.getHostObject() instanceof Point,
+                        property -> (Point) property.getHostObject())
+                .targetTypeMapping(
+                        HostProperty.class,
+                        Block.class,
+                        property -> property.getHostObject() instanceof Block,
+                        property -> (Block) property.getHostObject())
+                .targetTypeMapping(
+                        HostProperty.class,
+                        ItemStack.class,
+                        property -> property.getHostObject() instanceof ItemStack,
+                        property -> (ItemStack) property.getHostObject())
+                .targetTypeMapping(
+                        String.class,
+                        Block.class,
+                        name -> name != null && Block.fromNamespaceId(name) != null,
+                        Block::fromNamespaceId)
+                // Read the options of executor.with()
+                .targetTypeMapping(
+                        Map.class,
+                        ExecutionOptions.class,
+                        Objects::nonNull,
+                        ExecutionOptions::fromMap)
                 // Convert all native objects to nbt compound
                 .targetTypeMapping(
                         Map.class,
@@ -121,6 +482,8 @@ public final class Script {
                 .build();
 
         Context context = Context.newBuilder(language)
+                // Share parsed sources and compiled code between all scripts
+                .engine(ScriptManager.getEngine())
                 // Allows foreign object prototypes
                 .allowExperimentalOptions(true)
                 // Allows native js methods to be used on foreign (java) objects.
@@ -134,6 +497,11 @@ public final class Script {
         // Command globalExecutor
         bindings.putMember("executor", globalExecutor);
 
+        // Typed api, skipping command parsing
+        bindings.putMember("world", ScriptManager.API.getWorldHandler());
+        bindings.putMember("entity", ScriptManager.API.getEntityHandler());
+        bindings.putMember("display", ScriptManager.API.getDisplayHandler());
+
         // Event Signals
         Map<String, Object> eventBindings = new HashMap<>();
         for (EventSignal event : EventSignal.values()) {
@@ -143,4 +511,15 @@ public final class Script {
 
         return context;
     }
+
+    private static final class Slot {
+        private final Context context;
+        private final GlobalExecutor executor;
+        private final ReentrantLock lock = new ReentrantLock();
+
+        private Slot(@NotNull Context context, @NotNull GlobalExecutor executor) {
+            this.context = context;
+            this.executor = executor;
+        }
+    }
 }
@@ -0,0 +1,175 @@
+package net.minestom.script;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.time.Duration;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Single-threaded event loop owned by a {@link Script}, consuming a bounded mailbox.
+ * <p>
+ * Callbacks which do not need to return anything to the caller are posted here
+ * instead of being executed on the thread firing the event.
+ * Tasks posted while the mailbox is full are dropped with a warning, at most once per second.
+ * Closing the loop still executes the tasks already posted, then the termination task, without blocking the caller.
+ *
+ * @see ScriptManager#setEventLoop(boolean)
+ */
+public final class ScriptEventLoop {
+
+    private static final Runnable STOP = () -> {
+    };
+    private static final long WARNING_INTERVAL = Duration.ofSeconds(1).toNanos();
+
+    private final String name;
+    private final BlockingQueue<Task> mailbox;
+    private final Thread thread;
+    private volatile boolean closed;
+    private volatile Runnable onTermination;
+
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder dropped = new LongAdder();
+    private final AtomicLong totalWait = new AtomicLong();
+    private final AtomicLong maxWait = new AtomicLong();
+    private final AtomicLong lastWarning = new AtomicLong(System.nanoTime() - WARNING_INTERVAL);
+
+    ScriptEventLoop(@NotNull String name, int capacity) {
+        this.name = name;
+        this.mailbox = new ArrayBlockingQueue<>(capacity);
+        // Platform thread, polyglot contexts must not be entered from virtual threads
+        this.thread = Thread.ofPlatform()
+                .name("Reddox-" + name)
+                .daemon()
+                .start(this::run);
+    }
+
+    /**
+     * Enqueues a task without blocking.
+     *
+     * @param runnable the task to execute on the loop thread
+     * @return false if the task has been dropped
+     */
+    boolean post(@NotNull Runnable runnable) {
+        if (closed) return false;
+        final long now = System.nanoTime();
+        if (!mailbox.offer(new Task(runnable, now))) {
+            this.dropped.increment();
+            final long last = lastWarning.get();
+            if (now - last >= WARNING_INTERVAL && lastWarning.compareAndSet(last, now)) {
+                System.err.println("Mailbox of script '" + name + "' is full, " +
+                        dropped.sum() + " task(s) dropped so far");
+            }
+            return false;
+        }
+        return true;
+    }
+
+    boolean isLoopThread() {
+        return Thread.currentThread() == thread;
+    }
+
+    /**
+     * Stops accepting tasks and returns immediately, the loop exits once the pending tasks are executed.
+     *
+     * @param onTermination executed on the loop thread after the last pending task
+     */
+    void close(@NotNull Runnable onTermination) {
+        this.onTermination = onTermination;
+        this.closed = true;
+        // Wakes the loop if waiting, a full mailbox is checked again once drained
+        this.mailbox.offer(new Task(STOP, System.nanoTime()));
+    }
+
+    /**
+     * Waits for the loop to exit after {@link #close(Runnable)}, the termination task included.
+     *
+     * @param timeout the maximum time to wait
+     * @return true if the loop exited, false on timeout or if called from the loop itself
+     */
+    boolean awaitTermination(@NotNull Duration timeout) {
+        if (isLoopThread()) return false;
+        try {
+            return thread.join(timeout);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * Gets the number of tasks waiting in the mailbox.
+     *
+     * @return the queue depth
+     */
+    public int queueDepth() {
+        return mailbox.size();
+    }
+
+    public long processedCount() {
+        return processed.sum();
+    }
+
+    public long droppedCount() {
+        return dropped.sum();
+    }
+
+    /**
+     * Gets the average time spent by a task in the mailbox before being executed.
+     *
+     * @return the average wait time
+     */
+    public @NotNull Duration averageWait() {
+        final long count = processed.sum();
+        return count == 0 ? Duration.ZERO : Duration.ofNanos(totalWait.get() / count);
+    }
+
+    public @NotNull Duration maxWait() {
+        return Duration.ofNanos(maxWait.get());
+    }
+
+    private void run() {
+        try {
+            loop();
+        } finally {
+            final Runnable onTermination = this.onTermination;
+            if (onTermination != null) {
+                try {
+                    onTermination.run();
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }
+        }
+    }
+
+    private void loop() {
+        while (true) {
+            if (closed && mailbox.isEmpty()) return;
+            final Task task;
+            try {
+                task = mailbox.take();
+            } catch (InterruptedException e) {
+                return;
+            }
+            // Tasks posted concurrently with close() may follow
+            if (task.runnable() == STOP) continue;
+
+            final long wait = System.nanoTime() - task.timestamp();
+            this.totalWait.addAndGet(wait);
+            this.maxWait.accumulateAndGet(wait, Math::max);
+            try {
+                task.runnable().run();
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+            this.processed.increment();
+        }
+    }
+
+    private record Task(Runnable runnable, long timestamp) {
+    }
+}
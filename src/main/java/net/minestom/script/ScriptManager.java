@@ -2,6 +2,8 @@ package net.minestom.script;
 
 import net.minestom.script.command.*;
 import net.minestom.script.component.ScriptAPI;
+import net.minestom.script.utils.CommandUtils;
+import net.minestom.script.utils.EntityIndex;
 import net.minestom.script.utils.ExceptionUtils;
 import net.minestom.script.utils.FileUtils;
 import net.minestom.script.utils.TypeScriptTranspiler;
@@ -12,15 +14,21 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityCreature;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.Player;
+import net.minestom.server.event.player.PlayerDisconnectEvent;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.utils.validate.Check;
 import org.apache.commons.io.FilenameUtils;
+import org.graalvm.polyglot.Engine;
+import org.graalvm.polyglot.Source;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.time.Duration;
 import java.util.*;
-import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.*;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -32,6 +40,18 @@ public final class ScriptManager {
 
     private static final List<Script> SCRIPTS = new CopyOnWriteArrayList<>();
 
+    // Shared by all script contexts, allows parsed ASTs and compiled code to be reused
+    private static final Engine ENGINE = Engine.newBuilder().build();
+    // script name -> last evaluated source
+    private static final Map<String, Source> SOURCE_CACHE = new ConcurrentHashMap<>();
+    // Evaluates reloaded scripts away from the server threads
+    private static final ExecutorService RELOAD_EXECUTOR = Executors.newSingleThreadExecutor(
+            Thread.ofPlatform().name("Reddox-Reload").daemon().factory());
+    // Executes listeners of different scripts concurrently, threads are only started when used
+    private static final ExecutorService SIGNAL_EXECUTOR = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(),
+            Thread.ofPlatform().name("Reddox-Signal-", 0).daemon().factory());
+
     // extension -> graalvm binding name
     private static final Map<String, String> EXTENSION_MAP = Map.of(
             "js", "js",
@@ -42,12 +62,22 @@ public final class ScriptManager {
             "ts", TypeScriptTranspiler::transpile);
 
     private static volatile boolean loaded;
+    private static volatile boolean parallelLoading;
+    private static volatile Duration lastLoadTime = Duration.ZERO;
+    private static volatile boolean hotReload;
+    private static volatile boolean eventLoop;
+    private static volatile int mailboxCapacity = 1024;
+    private static volatile boolean parallelSignals;
+    private static ScriptWatcher watcher;
 
     private static Function<CommandSender, Collection<Instance>> instanceSupplier = sender ->
             sender.isPlayer() ? Collections.singleton(sender.asPlayer().getInstance()) :
                     MinecraftServer.getInstanceManager().getInstances();
     private static Function<EntityType, Entity> entitySupplier = EntityCreature::new;
     private static Function<Player, Boolean> commandPermission = player -> true;
+    // player -> result of the command permission, see #hasCommandPermission(Player)
+    // Weak keys, an entry added concurrently with the disconnection cannot outlive the player
+    private static final Map<Player, Boolean> PERMISSION_CACHE = Collections.synchronizedMap(new WeakHashMap<>());
 
     /**
      * Loads and evaluate all scripts in the folder {@link #SCRIPT_FOLDER}.
@@ -61,10 +91,16 @@ public final class ScriptManager {
 
         // Init events for signals
         EventSignal.init(MinecraftServer.getGlobalEventHandler());
+        // Index entities for the scripts lookups
+        EntityIndex.init(MinecraftServer.getGlobalEventHandler());
 
         // Handle exception
         MinecraftServer.getExceptionManager().setExceptionHandler(ExceptionUtils::handleException);
 
+        // Forget the permission of disconnected players
+        MinecraftServer.getGlobalEventHandler().addListener(PlayerDisconnectEvent.class,
+                event -> PERMISSION_CACHE.remove(event.getPlayer()));
+
         // Load commands
         {
             CommandManager commandManager = MinecraftServer.getCommandManager();
@@ -78,6 +114,10 @@ public final class ScriptManager {
 
         // Load scripts
         loadScripts();
+
+        if (hotReload) {
+            startWatcher();
+        }
     }
 
     public static synchronized void reload() {
@@ -85,6 +125,38 @@ public final class ScriptManager {
         loadScripts();
     }
 
+    /**
+     * Reloads a single script from {@link #SCRIPT_FOLDER} without stalling the calling thread.
+     * <p>
+     * The replacement is read and evaluated in the background while the current script keeps
+     * receiving signals, commands and listeners are then swapped atomically and the previous
+     * context is closed once its in-flight callbacks are done.
+     * <p>
+     * Scripts whose source did not change are left untouched unless {@code force} is true,
+     * new files are loaded and deleted files are unloaded.
+     *
+     * @param name  the name of the file or folder in {@link #SCRIPT_FOLDER}
+     * @param force true to reload the script even if its source did not change
+     * @return a future completed with true if the script has been loaded, reloaded or unloaded
+     */
+    public static @NotNull CompletableFuture<Boolean> reloadScript(@NotNull String name, boolean force) {
+        return CompletableFuture.supplyAsync(() -> {
+            synchronized (ScriptManager.class) {
+                return swapScript(name, force);
+            }
+        }, RELOAD_EXECUTOR);
+    }
+
+    /**
+     * Reloads a single script if its source changed, see {@link #reloadScript(String, boolean)}.
+     *
+     * @param name the name of the file or folder in {@link #SCRIPT_FOLDER}
+     * @return a future completed with true if the script has been loaded, reloaded or unloaded
+     */
+    public static @NotNull CompletableFuture<Boolean> reloadScript(@NotNull String name) {
+        return reloadScript(name, false);
+    }
+
     public static synchronized void shutdown() {
         // Unload all current scripts
         for (Script script : getScripts()) {
@@ -102,6 +174,131 @@ public final class ScriptManager {
         return SCRIPTS;
     }
 
+    /**
+     * Gets the polyglot engine shared by every script context.
+     *
+     * @return the shared engine
+     */
+    public static @NotNull Engine getEngine() {
+        return ENGINE;
+    }
+
+    /**
+     * Gets if scripts are read, transpiled and evaluated concurrently.
+     *
+     * @return true if scripts are loaded in parallel
+     */
+    public static boolean isParallelLoading() {
+        return parallelLoading;
+    }
+
+    /**
+     * Loads independent scripts on a bounded worker pool, their commands and signals
+     * are registered together once every script has been evaluated.
+     * <p>
+     * Scripts must not depend on the evaluation order of other scripts.
+     *
+     * @param parallelLoading true to load scripts in parallel
+     */
+    public static void setParallelLoading(boolean parallelLoading) {
+        ScriptManager.parallelLoading = parallelLoading;
+    }
+
+    /**
+     * Gets the script loaded from a file or folder.
+     *
+     * @param name the name of the file or folder in {@link #SCRIPT_FOLDER}
+     * @return the script, null if not found
+     */
+    public static @Nullable Script getScript(@NotNull String name) {
+        for (Script script : SCRIPTS) {
+            if (script.name().equals(name)) {
+                return script;
+            }
+        }
+        return null;
+    }
+
+    public static boolean isEventLoop() {
+        return eventLoop;
+    }
+
+    /**
+     * Gives each script loaded afterward its own {@link ScriptEventLoop}.
+     * <p>
+     * Signals whose output is not used and command callbacks are then enqueued without blocking
+     * the thread firing them, signals which can be cancelled are still executed by the caller.
+     *
+     * @param eventLoop true to execute callbacks on a per-script event loop
+     */
+    public static void setEventLoop(boolean eventLoop) {
+        ScriptManager.eventLoop = eventLoop;
+    }
+
+    public static int getMailboxCapacity() {
+        return mailboxCapacity;
+    }
+
+    /**
+     * Sets the maximum number of pending tasks of each {@link ScriptEventLoop}, tasks are dropped above it.
+     *
+     * @param mailboxCapacity the mailbox capacity
+     */
+    public static void setMailboxCapacity(int mailboxCapacity) {
+        Check.argCondition(mailboxCapacity <= 0, "The mailbox capacity must be positive");
+        ScriptManager.mailboxCapacity = mailboxCapacity;
+    }
+
+    public static boolean isParallelSignals() {
+        return parallelSignals;
+    }
+
+    /**
+     * Dispatches signals to the subscribed scripts concurrently.
+     * <p>
+     * Signals whose output is not needed return without waiting for the listeners,
+     * the output of the others is merged in registration order once every script is done.
+     * Listeners can therefore not read the output written by other scripts.
+     *
+     * @param parallelSignals true to dispatch signals in parallel
+     */
+    public static void setParallelSignals(boolean parallelSignals) {
+        ScriptManager.parallelSignals = parallelSignals;
+    }
+
+    static @NotNull ExecutorService getSignalExecutor() {
+        return SIGNAL_EXECUTOR;
+    }
+
+    public static boolean isHotReload() {
+        return hotReload;
+    }
+
+    /**
+     * Watches {@link #SCRIPT_FOLDER} and reloads the scripts whose files changed,
+     * see {@link #reloadScript(String)}.
+     *
+     * @param hotReload true to reload modified scripts automatically
+     */
+    public static synchronized void setHotReload(boolean hotReload) {
+        ScriptManager.hotReload = hotReload;
+        if (!hotReload && watcher != null) {
+            watcher.close();
+            watcher = null;
+        } else if (hotReload && loaded) {
+            startWatcher();
+        }
+    }
+
+    /**
+     * Gets the time spent loading every script during the last load or reload.
+     *
+     * @return the last load duration
+     */
+    public static @NotNull Duration getLastLoadTime() {
+        return lastLoadTime;
+    }
+
     public static @NotNull Function<CommandSender, Collection<Instance>> getInstanceSupplier() {
         return instanceSupplier;
     }
@@ -124,51 +321,258 @@ public final class ScriptManager {
 
     public static void setCommandPermission(@NotNull Function<Player, Boolean> commandPermission) {
         ScriptManager.commandPermission = commandPermission;
+        PERMISSION_CACHE.clear();
+        // Players are connected, their tree may not reflect the new permission
+        if (loaded) CommandUtils.updateCommands();
+    }
+
+    /**
+     * Gets if a player is allowed to use the script commands.
+     * <p>
+     * {@link #getCommandPermission()} is evaluated once per player, the result is kept
+     * until the player disconnects or one of the invalidation methods is called.
+     *
+     * @param player the player to check
+     * @return true if the player has the command permission
+     */
+    public static boolean hasCommandPermission(@NotNull Player player) {
+        final Boolean cached = PERMISSION_CACHE.get(player);
+        if (cached != null) return cached;
+        // Evaluated outside the lock, the first result is kept
+        final boolean permission = Boolean.TRUE.equals(commandPermission.apply(player));
+        final Boolean previous = PERMISSION_CACHE.putIfAbsent(player, permission);
+        return previous != null ? previous : permission;
+    }
+
+    /**
+     * Evaluates the command permission of a player again, to call when it changed.
+     * <p>
+     * The command tree is sent again to reflect the new permission.
+     *
+     * @param player the player whose permission changed
+     */
+    public static void invalidateCommandPermission(@NotNull Player player) {
+        PERMISSION_CACHE.remove(player);
+        CommandUtils.updateCommands();
+    }
+
+    /**
+     * Evaluates the command permission of every player again.
+     *
+     * @see #invalidateCommandPermission(Player)
+     */
+    public static void invalidateCommandPermissions() {
+        PERMISSION_CACHE.clear();
+        CommandUtils.updateCommands();
     }
 
     private static synchronized void loadScripts() {
         if (!Files.isDirectory(SCRIPT_FOLDER)) return;
 
+        List<Path> entries;
         try (Stream<Path> walkStream = Files.list(SCRIPT_FOLDER)) {
-            Iterator<Path> iterator = walkStream.iterator();
-            while (iterator.hasNext()) {
-                Path path = iterator.next();
-                final String exposedName = path.getFileName().toString();
-                if (Files.isDirectory(path)) {
-                    // Find main file
-                    path = findMainFile(path);
-                }
+            entries = walkStream.toList();
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return;
+        }
 
-                final String name = path.getFileName().toString();
-                final String extension = FilenameUtils.getExtension(name);
-                final String language = EXTENSION_MAP.get(extension);
-                if (language == null) {
-                    // Invalid file extension
-                    System.err.println("Invalid file extension for " + path + ", ignored");
-                    continue;
+        final long start = System.nanoTime();
+        if (parallelLoading) {
+            loadParallel(entries);
+        } else {
+            for (Path entry : entries) {
+                final Script script = createScript(entry);
+                if (script == null) continue;
+                SCRIPTS.add(script);
+                try {
+                    // Evaluate the script (start registering listeners)
+                    script.load();
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
                 }
+            }
+        }
+        lastLoadTime = Duration.ofNanos(System.nanoTime() - start);
+    }
 
-                final GlobalExecutor globalExecutor = new GlobalExecutor();
-                Script script;
-                final Function<String, String> transpilerFunction = TRANSPILER_MAP.get(extension);
-                if (transpilerFunction != null) {
-                    // File content needs to be converted
-                    final String source = transpilerFunction.apply(FileUtils.readFile(path));
-                    script = Script.fromString(exposedName, language, source, globalExecutor);
-                } else {
-                    // Language is natively supported by GraalVM
-                    script = Script.fromFile(exposedName, language, path, globalExecutor);
-                }
-                globalExecutor.script = script;
+    private static boolean swapScript(@NotNull String name, boolean force) {
+        final Path entry = SCRIPT_FOLDER.resolve(name);
+        final Script current = getScript(name);
+        if (!Files.exists(entry)) {
+            // Script has been deleted
+            if (current == null) return false;
+            current.unload();
+            SCRIPTS.remove(current);
+            return true;
+        }
+        if (!Files.isDirectory(entry) && !EXTENSION_MAP.containsKey(FilenameUtils.getExtension(name))) {
+            // Not a script (e.g. temporary editor file)
+            return false;
+        }
+
+        final Script script = createScript(entry);
+        if (script == null) return false;
+        if (!force && current != null && current.hash().equals(script.hash()) &&
+                current.manifest().equals(script.manifest())) {
+            // Unchanged
+            return false;
+        }
+
+        // Evaluate the replacement while the current script is still active
+        try {
+            script.evaluate();
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            script.unload();
+            return false;
+        }
+
+        if (current != null && current.isLoaded()) {
+            GlobalExecutor.replace(current.executor(), script.executor());
+            SCRIPTS.set(SCRIPTS.indexOf(current), script);
+            // Wait for the callbacks still using the previous context
+            current.retire();
+        } else {
+            script.executor().register();
+            if (current != null) {
+                SCRIPTS.set(SCRIPTS.indexOf(current), script);
+            } else {
                 SCRIPTS.add(script);
-                // Evaluate the script (start registering listeners)
-                script.load();
             }
+        }
+        return true;
+    }
+
+    private static synchronized void startWatcher() {
+        if (watcher != null || !Files.isDirectory(SCRIPT_FOLDER)) return;
+        try {
+            watcher = new ScriptWatcher(SCRIPT_FOLDER);
+            watcher.start();
         } catch (IOException e) {
             MinecraftServer.getExceptionManager().handleException(e);
         }
     }
 
+    private static void loadParallel(@NotNull List<Path> entries) {
+        final int threads = Math.min(entries.size(), Runtime.getRuntime().availableProcessors());
+        if (threads == 0) return;
+
+        final ExecutorService loader = Executors.newFixedThreadPool(threads,
+                Thread.ofPlatform().name("Reddox-Loader-", 0).daemon().factory());
+        try {
+            // Read, transpile and evaluate each script independently
+            List<CompletableFuture<LoadedScript>> futures = new ArrayList<>(entries.size());
+            for (Path entry : entries) {
+                futures.add(CompletableFuture.supplyAsync(() -> {
+                            try {
+                                return createScript(entry);
+                            } catch (Throwable e) {
+                                // Unreadable or not transpilable, the other scripts are still loaded
+                                MinecraftServer.getExceptionManager().handleException(e);
+                                return null;
+                            }
+                        }, loader)
+                        .thenApplyAsync(script -> {
+                            if (script == null) return null;
+                            try {
+                                script.evaluate();
+                                return new LoadedScript(script, true);
+                            } catch (Throwable e) {
+                                MinecraftServer.getExceptionManager().handleException(e);
+                                // Keep the script listed, but never commit its commands and signals
+                                return new LoadedScript(script, false);
+                            }
+                        }, loader));
+            }
+
+            // Commit all scripts at once, listed in file order
+            List<Script> scripts = new ArrayList<>(futures.size());
+            List<GlobalExecutor> executors = new ArrayList<>(futures.size());
+            try {
+                for (CompletableFuture<LoadedScript> future : futures) {
+                    final LoadedScript loaded = future.join();
+                    if (loaded == null) continue;
+                    scripts.add(loaded.script());
+                    if (loaded.evaluated()) executors.add(loaded.script().executor());
+                }
+                SCRIPTS.addAll(scripts);
+                GlobalExecutor.registerAll(executors);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                // Load aborted, close every evaluated context instead of leaking it
+                for (CompletableFuture<LoadedScript> future : futures) {
+                    final LoadedScript loaded = future.exceptionally(throwable -> null).join();
+                    if (loaded == null || !loaded.evaluated()) continue;
+                    final Script script = loaded.script();
+                    SCRIPTS.remove(script);
+                    try {
+                        script.unload();
+                    } catch (Throwable unloadException) {
+                        MinecraftServer.getExceptionManager().handleException(unloadException);
+                    }
+                }
+            }
+        } finally {
+            loader.shutdown();
+        }
+    }
+
+    private record LoadedScript(@NotNull Script script, boolean evaluated) {
+    }
+
+    private static @Nullable Script createScript(@NotNull Path path) {
+        final String exposedName = path.getFileName().toString();
+        ScriptManifest manifest = ScriptManifest.DEFAULT;
+        if (Files.isDirectory(path)) {
+            // Find main file
+            try {
+                final Path manifestPath = path.resolve(ScriptManifest.FILE_NAME);
+                if (Files.isRegularFile(manifestPath)) {
+                    manifest = ScriptManifest.fromJson(Files.readString(manifestPath));
+                }
+                path = findMainFile(path);
+            } catch (IOException | RuntimeException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+                return null;
+            }
+        }
+
+        final String name = path.getFileName().toString();
+        final String extension = FilenameUtils.getExtension(name);
+        final String language = EXTENSION_MAP.get(extension);
+        if (language == null) {
+            // Invalid file extension
+            System.err.println("Invalid file extension for " + path + ", ignored");
+            return null;
+        }
+
+        final GlobalExecutor globalExecutor = new GlobalExecutor();
+        Script script;
+        final Function<String, String> transpilerFunction = TRANSPILER_MAP.get(extension);
+        if (transpilerFunction != null) {
+            // File content needs to be converted
+            final String source = transpilerFunction.apply(FileUtils.readFile(path));
+            script = Script.fromString(exposedName, language, source, manifest, globalExecutor);
+        } else {
+            // Language is natively supported by GraalVM
+            script = Script.fromFile(exposedName, language, path, manifest, globalExecutor);
+        }
+        globalExecutor.script = script;
+        return script;
+    }
+
+    static @NotNull Source getSource(@NotNull String name, @NotNull String language, @NotNull String content) {
+        return SOURCE_CACHE.compute(name, (s, source) -> {
+            if (source != null && source.getLanguage().equals(language) &&
+                    source.getCharacters().toString().equals(content)) {
+                // Unchanged, keep the source to hit the engine code cache
+                return source;
+            }
+            return Source.newBuilder(language, content, name).buildLiteral();
+        });
+    }
+
     private static Path findMainFile(@NotNull Path directory) throws IOException {
         Iterator<Path> iterator = Files.walk(directory).iterator();
         while (iterator.hasNext()) {
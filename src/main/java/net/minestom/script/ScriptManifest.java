@@ -0,0 +1,39 @@
+package net.minestom.script;
+
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Options declared by a folder script in its {@code manifest.json} file.
+ * <p>
+ * Example:
+ * <pre>{@code
+ * {
+ *   "stateless": true,
+ *   "contexts": 4
+ * }
+ * }</pre>
+ *
+ * @param stateless true if the script does not keep any global mutable state between callbacks,
+ *                  it is then evaluated in multiple contexts executing callbacks concurrently
+ * @param contexts  the number of contexts used by a stateless script
+ */
+public record ScriptManifest(boolean stateless, int contexts) {
+    public static final String FILE_NAME = "manifest.json";
+    public static final ScriptManifest DEFAULT = new ScriptManifest(false, 1);
+
+    public ScriptManifest {
+        if (contexts <= 0) {
+            throw new IllegalArgumentException("A script requires at least one context");
+        }
+    }
+
+    public static @NotNull ScriptManifest fromJson(@NotNull String json) {
+        final JsonObject object = JsonParser.parseString(json).getAsJsonObject();
+        final boolean stateless = object.has("stateless") && object.get("stateless").getAsBoolean();
+        final int contexts = object.has("contexts") ?
+                object.get("contexts").getAsInt() : Runtime.getRuntime().availableProcessors();
+        return new ScriptManifest(stateless, stateless ? contexts : 1);
+    }
+}
@@ -0,0 +1,124 @@
+package net.minestom.script;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.IOException;
+import java.nio.file.*;
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+import static java.nio.file.StandardWatchEventKinds.*;
+
+/**
+ * Watches {@link ScriptManager#SCRIPT_FOLDER} and reloads the scripts whose files changed.
+ * <p>
+ * Changes are debounced, scripts are only reloaded once no modification happened for {@link #DEBOUNCE_MS}.
+ */
+final class ScriptWatcher implements Runnable {
+
+    private static final long DEBOUNCE_MS = 250;
+
+    private final Path root;
+    private final Consumer<String> reload;
+    private final WatchService watchService;
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    // Name of the top-level scripts waiting to be reloaded
+    private final Set<String> pending = new LinkedHashSet<>();
+
+    ScriptWatcher(@NotNull Path root) throws IOException {
+        this(root, name -> ScriptManager.reloadScript(name).exceptionally(throwable -> {
+            MinecraftServer.getExceptionManager().handleException(throwable);
+            return false;
+        }));
+    }
+
+    /**
+     * @param root   the folder to watch
+     * @param reload called from the watcher thread with the name of each changed script
+     */
+    ScriptWatcher(@NotNull Path root, @NotNull Consumer<String> reload) throws IOException {
+        this.root = root;
+        this.reload = reload;
+        this.watchService = root.getFileSystem().newWatchService();
+        registerTree(root);
+    }
+
+    void start() {
+        Thread.ofPlatform().name("Reddox-Watcher").daemon().start(this);
+    }
+
+    void close() {
+        try {
+            this.watchService.close();
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        }
+    }
+
+    @Override
+    public void run() {
+        try {
+            while (true) {
+                final WatchKey key = pending.isEmpty() ?
+                        watchService.take() : watchService.poll(DEBOUNCE_MS, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    // No change during the debounce delay
+                    flush();
+                    continue;
+                }
+                process(key);
+            }
+        } catch (ClosedWatchServiceException | InterruptedException ignored) {
+            // Watcher stopped
+        }
+    }
+
+    private void process(@NotNull WatchKey key) {
+        final Path directory = directories.get(key);
+        for (WatchEvent<?> event : key.pollEvents()) {
+            if (event.kind() == OVERFLOW) {
+                // Events have been lost, check every script
+                try (Stream<Path> stream = Files.list(root)) {
+                    stream.forEach(path -> pending.add(path.getFileName().toString()));
+                } catch (IOException e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+                continue;
+            }
+            if (directory == null) continue;
+            final Path path = directory.resolve((Path) event.context());
+            if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+                try {
+                    registerTree(path);
+                } catch (IOException e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                }
+            }
+            // Files inside folder scripts belong to the top-level folder
+            final Path relative = root.relativize(path);
+            pending.add(relative.getName(0).toString());
+        }
+        if (!key.reset()) {
+            directories.remove(key);
+        }
+    }
+
+    private void flush() {
+        for (String name : pending) {
+            reload.accept(name);
+        }
+        pending.clear();
+    }
+
+    private void registerTree(@NotNull Path start) throws IOException {
+        try (Stream<Path> stream = Files.walk(start)) {
+            for (Path directory : (Iterable<Path>) stream.filter(Files::isDirectory)::iterator) {
+                final WatchKey key = directory.register(watchService, ENTRY_CREATE, ENTRY_MODIFY, ENTRY_DELETE);
+                directories.put(key, directory);
+            }
+        }
+    }
+}
@@ -0,0 +1,188 @@
+package net.minestom.script;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Index of the executors subscribed to each signal.
+ * <p>
+ * Signal names are interned once into an id, {@link EventSignal} ordinals being reserved as the first ids.
+ * Subscribers are kept in a copy-on-write array per signal, dispatching does not lock nor allocate.
+ */
+final class SignalRegistry {
+
+    static final int UNKNOWN = -1;
+    private static final GlobalExecutor[] EMPTY = new GlobalExecutor[0];
+
+    // lowercase name -> id
+    private static final Map<String, Integer> IDS = new ConcurrentHashMap<>();
+    private static volatile String[] names;
+    private static volatile GlobalExecutor[][] subscribers;
+
+    static {
+        final EventSignal[] signals = EventSignal.values();
+        names = new String[signals.length];
+        subscribers = new GlobalExecutor[signals.length][];
+        for (EventSignal signal : signals) {
+            final String name = signal.name().toLowerCase();
+            names[signal.ordinal()] = name;
+            subscribers[signal.ordinal()] = EMPTY;
+            IDS.put(name, signal.ordinal());
+        }
+    }
+
+    private SignalRegistry() {
+    }
+
+    /**
+     * Gets the id of a signal, registering it if needed.
+     *
+     * @param signal the signal name, case-insensitive
+     * @return the signal id
+     */
+    static int id(@NotNull String signal) {
+        final int id = lookup(signal);
+        return id != UNKNOWN ? id : register(signal.toLowerCase());
+    }
+
+    /**
+     * Gets the id of a signal without registering it.
+     *
+     * @param signal the signal name, case-insensitive
+     * @return the signal id, {@link #UNKNOWN} if the signal has never been listened to
+     */
+    static int lookup(@NotNull String signal) {
+        Integer id = IDS.get(signal);
+        if (id == null) {
+            id = IDS.get(signal.toLowerCase());
+        }
+        return id != null ? id : UNKNOWN;
+    }
+
+    static @NotNull String name(int id) {
+        return names[id];
+    }
+
+    static int size() {
+        return names.length;
+    }
+
+    static @NotNull GlobalExecutor[] subscribers(int id) {
+        return subscribers[id];
+    }
+
+    static synchronized void subscribe(int id, @NotNull GlobalExecutor executor) {
+        final GlobalExecutor[] current = subscribers[id];
+        if (indexOf(current, executor) != -1) return;
+        GlobalExecutor[][] subscribers = SignalRegistry.subscribers.clone();
+        subscribers[id] = append(current, executor);
+        publish(subscribers);
+    }
+
+    /**
+     * Subscribes multiple executors to all the signals they listen to, in a single step.
+     *
+     * @param executors the executors to subscribe
+     */
+    static synchronized void subscribeAll(@NotNull Collection<GlobalExecutor> executors) {
+        GlobalExecutor[][] subscribers = SignalRegistry.subscribers.clone();
+        for (int id = 0; id < subscribers.length; id++) {
+            for (GlobalExecutor executor : executors) {
+                if (executor.hasListeners(id) && indexOf(subscribers[id], executor) == -1) {
+                    subscribers[id] = append(subscribers[id], executor);
+                }
+            }
+        }
+        publish(subscribers);
+    }
+
+    static synchronized void unsubscribe(@NotNull GlobalExecutor executor) {
+        GlobalExecutor[][] subscribers = SignalRegistry.subscribers.clone();
+        for (int id = 0; id < subscribers.length; id++) {
+            final int index = indexOf(subscribers[id], executor);
+            if (index != -1) {
+                subscribers[id] = remove(subscribers[id], index);
+            }
+        }
+        publish(subscribers);
+    }
+
+    /**
+     * Replaces an executor by another in every signal, keeping its position.
+     *
+     * @param previous the executor to replace
+     * @param executor the replacement
+     */
+    static synchronized void replace(@NotNull GlobalExecutor previous, @NotNull GlobalExecutor executor) {
+        GlobalExecutor[][] subscribers = SignalRegistry.subscribers.clone();
+        for (int id = 0; id < subscribers.length; id++) {
+            final GlobalExecutor[] current = subscribers[id];
+            final int index = indexOf(current, previous);
+            final boolean listening = executor.hasListeners(id);
+            if (index != -1 && listening) {
+                GlobalExecutor[] replaced = current.clone();
+                replaced[index] = executor;
+                subscribers[id] = replaced;
+            } else if (index != -1) {
+                subscribers[id] = remove(current, index);
+            } else if (listening) {
+                subscribers[id] = append(current, executor);
+            }
+        }
+        publish(subscribers);
+    }
+
+    private static synchronized int register(@NotNull String name) {
+        final Integer registered = IDS.get(name);
+        if (registered != null) return registered;
+
+        final int id = names.length;
+        String[] names = Arrays.copyOf(SignalRegistry.names, id + 1);
+        names[id] = name;
+        GlobalExecutor[][] subscribers = Arrays.copyOf(SignalRegistry.subscribers, id + 1);
+        subscribers[id] = EMPTY;
+        SignalRegistry.names = names;
+        SignalRegistry.subscribers = subscribers;
+        // Published last, the arrays are always large enough for a visible id
+        IDS.put(name, id);
+        return id;
+    }
+
+    private static void publish(@NotNull GlobalExecutor[][] subscribers) {
+        final GlobalExecutor[][] previous = SignalRegistry.subscribers;
+        SignalRegistry.subscribers = subscribers;
+        // Attach or detach the event listeners whose subscription changed
+        final EventSignal[] signals = EventSignal.values();
+        for (EventSignal signal : signals) {
+            final int id = signal.ordinal();
+            if ((previous[id].length == 0) != (subscribers[id].length == 0)) {
+                signal.refresh();
+            }
+        }
+    }
+
+    private static int indexOf(@NotNull GlobalExecutor[] executors, @NotNull GlobalExecutor executor) {
+        for (int i = 0; i < executors.length; i++) {
+            if (executors[i] == executor) return i;
+        }
+        return -1;
+    }
+
+    private static @NotNull GlobalExecutor[] append(@NotNull GlobalExecutor[] executors, @NotNull GlobalExecutor executor) {
+        GlobalExecutor[] result = Arrays.copyOf(executors, executors.length + 1);
+        result[executors.length] = executor;
+        return result;
+    }
+
+    private static @NotNull GlobalExecutor[] remove(@NotNull GlobalExecutor[] executors, int index) {
+        if (executors.length == 1) return EMPTY;
+        GlobalExecutor[] result = new GlobalExecutor[executors.length - 1];
+        System.arraycopy(executors, 0, result, 0, index);
+        System.arraycopy(executors, index + 1, result, index, executors.length - index - 1);
+        return result;
+    }
+}
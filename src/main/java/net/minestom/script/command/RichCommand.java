@@ -3,14 +3,28 @@ package net.minestom.script.command;
 import net.kyori.adventure.text.Component;
 import net.minestom.script.ScriptManager;
 import net.minestom.script.component.ScriptAPI;
+import net.minestom.script.utils.CommandUtils;
+import net.minestom.script.utils.HostArguments;
 import net.minestom.server.command.CommandSender;
 import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.CommandContext;
+import net.minestom.server.command.builder.condition.CommandCondition;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.item.ItemStack;
+import net.minestom.server.utils.entity.EntityFinder;
+import net.minestom.server.utils.location.RelativeVec;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
 import java.io.StringReader;
+import java.util.List;
 import java.util.function.Consumer;
+import java.util.function.Supplier;
 
 /**
  * Represents a Reddox command, commands extending this
@@ -18,30 +32,47 @@ import java.util.function.Consumer;
  */
 public class RichCommand extends Command {
 
+    /**
+     * Condition installed on every Reddox command, only depending on {@link ScriptManager#hasCommandPermission(Player)}.
+     */
+    public static final CommandCondition PERMISSION_CONDITION = (source, commandString) -> {
+        // Permission depending on the end application
+        if (source instanceof Player player) {
+            return ScriptManager.hasCommandPermission(player);
+        }
+
+        // Permission for server and console
+        return true;
+    };
+
     private final String category;
 
     public RichCommand(@NotNull String name, @NotNull String category) {
         super(name);
         this.category = category;
 
-        setCondition((source, commandString) -> {
-            // Permission depending on the end application
-            if(source instanceof Player player) {
-                return ScriptManager.getCommandPermission().apply(player);
-            }
-
-            // Permission for server and console
-            return true;
-        });
+        setCondition(PERMISSION_CONDITION);
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Default script executor: " + getClass().getSimpleName())));
+                sendFeedback(sender, () -> Component.text("Default script executor: " + getClass().getSimpleName())));
     }
 
     public RichCommand(@NotNull String name) {
         this(name, ScriptCategory.UNKNOWN);
     }
 
+    /**
+     * Sends a feedback message, the message is not even created when executed silently.
+     *
+     * @param sender   the command sender
+     * @param feedback the message supplier
+     * @see net.minestom.script.ExecutionOptions#isSilent()
+     */
+    public static void sendFeedback(@NotNull CommandSender sender, @NotNull Supplier<? extends Component> feedback) {
+        if (CommandUtils.isSilent()) return;
+        sender.sendMessage(feedback.get());
+    }
+
     public @NotNull ScriptAPI getApi() {
         return ScriptManager.API;
     }
@@ -50,6 +81,68 @@ public class RichCommand extends Command {
         return category;
     }
 
+    /**
+     * Gets the entities of an entity argument, using the entity given by the script when available.
+     *
+     * @param sender     the command sender
+     * @param context    the command context
+     * @param identifier the entity argument identifier
+     * @return the targeted entities
+     */
+    public @NotNull List<Entity> findEntities(@NotNull CommandSender sender, @NotNull CommandContext context,
+                                              @NotNull String identifier) {
+        final Entity entity = getEntity(context, identifier);
+        if (entity != null) {
+            return List.of(entity);
+        }
+        final EntityFinder entityFinder = context.get(identifier);
+        return entityFinder.find(sender);
+    }
+
+    public @Nullable Entity findEntity(@NotNull CommandSender sender, @NotNull CommandContext context,
+                                       @NotNull String identifier) {
+        final Entity entity = getEntity(context, identifier);
+        if (entity != null) {
+            return entity;
+        }
+        final EntityFinder entityFinder = context.get(identifier);
+        return entityFinder.findFirstEntity(sender);
+    }
+
+    private static @Nullable Entity getEntity(@NotNull CommandContext context, @NotNull String identifier) {
+        // The finder resolves the other arguments, constant uuids and usernames included,
+        // while applying the constraints of the entity argument
+        return HostArguments.get(context, identifier, Entity.class);
+    }
+
+    /**
+     * Gets the position of a relative vector argument, using the position given by the script when available.
+     *
+     * @param sender     the command sender
+     * @param context    the command context
+     * @param identifier the position argument identifier
+     * @return the absolute position
+     */
+    public @NotNull Vec findPosition(@NotNull CommandSender sender, @NotNull CommandContext context,
+                                     @NotNull String identifier) {
+        final Point point = HostArguments.get(context, identifier, Point.class);
+        if (point != null) {
+            return Vec.fromPoint(point);
+        }
+        final RelativeVec relativeVec = context.get(identifier);
+        return relativeVec.fromSender(sender);
+    }
+
+    public @NotNull ItemStack findItemStack(@NotNull CommandContext context, @NotNull String identifier) {
+        final ItemStack itemStack = HostArguments.get(context, identifier, ItemStack.class);
+        return itemStack != null ? itemStack : context.get(identifier);
+    }
+
+    public @NotNull Block findBlock(@NotNull CommandContext context, @NotNull String identifier) {
+        final Block block = HostArguments.get(context, identifier, Block.class);
+        return block != null ? block : context.get(identifier);
+    }
+
     public void processInstances(@NotNull CommandSender sender,
                                  @NotNull Consumer<Instance> consumer) {
         var instances = ScriptManager.getInstanceSupplier().apply(sender);
@@ -5,13 +5,16 @@ import net.kyori.adventure.text.event.ClickEvent;
 import net.kyori.adventure.text.event.HoverEvent;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.script.Script;
+import net.minestom.script.ScriptEventLoop;
 import net.minestom.script.ScriptManager;
+import net.minestom.script.utils.CommandUtils;
 import net.minestom.server.command.CommandSender;
 import net.minestom.server.command.builder.CommandContext;
 import net.minestom.server.command.builder.suggestion.Suggestion;
 import net.minestom.server.command.builder.suggestion.SuggestionEntry;
 import org.jetbrains.annotations.NotNull;
 
+import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
@@ -28,7 +31,7 @@ public class ScriptCommand extends RichCommand {
         super("script");
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Usage: /script <list/load/unload> [path]")));
+                sendFeedback(sender, () -> Component.text("Usage: /script <list/stats/load/unload> [path]")));
 
         var pathArgument = StringArray("path")
                 .setDefaultValue(() -> new String[0])
@@ -37,33 +40,33 @@ public class ScriptCommand extends RichCommand {
         addSyntax((sender, context) -> {
             List<Script> scripts = getScripts();
 
-            sender.sendMessage(Component.text("Scripts (" + scripts.size() + "):", NamedTextColor.WHITE));
+            sendFeedback(sender, () -> Component.text("Scripts (" + scripts.size() + "):", NamedTextColor.WHITE));
             for (Script script : scripts) {
-                final String name = script.name();
-                Component scriptComponent = Component.text(name, script.isLoaded() ? NamedTextColor.GREEN : NamedTextColor.RED)
-                        .append(Component.space())
-                        .append(Component.text("[Load]")
-                                .color(NamedTextColor.GRAY)
-                                .hoverEvent(HoverEvent.showText(Component.text("Click to load " + name, NamedTextColor.GRAY)))
-                                .clickEvent(ClickEvent.runCommand("/script load " + name)))
-                        .append(Component.space())
-                        .append(Component.text("[Unload]")
-                                .color(NamedTextColor.DARK_GRAY)
-                                .hoverEvent(HoverEvent.showText(Component.text("Click to unload " + name, NamedTextColor.DARK_GRAY)))
-                                .clickEvent(ClickEvent.runCommand("/script unload " + name)));
-
-                sender.sendMessage(scriptComponent);
+                sendFeedback(sender, () -> listComponent(script));
             }
         }, Literal("list"));
 
+        addSyntax((sender, context) -> {
+            // Slowest scripts first
+            List<Script> scripts = getScripts().stream()
+                    .sorted(Comparator.comparing(Script::loadTime).reversed())
+                    .toList();
+
+            sendFeedback(sender, () -> Component.text("Scripts loaded in " + ScriptManager.getLastLoadTime().toMillis() + "ms" +
+                    (ScriptManager.isParallelLoading() ? " (parallel)" : "") + ":", NamedTextColor.WHITE));
+            for (Script script : scripts) {
+                sendFeedback(sender, () -> statsComponent(script));
+            }
+        }, Literal("stats"));
+
         addSyntax((sender, context) -> {
             final String[] path = context.get(pathArgument);
             processPath(sender, String.join(" ", path), script -> {
                 if (script.isLoaded()) {
-                    sender.sendMessage(Component.text("Script is already loaded", NamedTextColor.RED));
+                    sendFeedback(sender, () -> Component.text("Script is already loaded", NamedTextColor.RED));
                 } else {
                     script.load();
-                    sender.sendMessage(Component.text("Script loaded successfully!", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Script loaded successfully!", NamedTextColor.GREEN));
                 }
             });
         }, Literal("load"), pathArgument);
@@ -73,9 +76,9 @@ public class ScriptCommand extends RichCommand {
             processPath(sender, String.join(" ", path), script -> {
                 if (script.isLoaded()) {
                     script.unload();
-                    sender.sendMessage(Component.text("Script unloaded successfully!", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Script unloaded successfully!", NamedTextColor.GREEN));
                 } else {
-                    sender.sendMessage(Component.text("Script is already unloaded", NamedTextColor.RED));
+                    sendFeedback(sender, () -> Component.text("Script is already unloaded", NamedTextColor.RED));
                 }
             });
         }, Literal("unload"), pathArgument);
@@ -84,20 +87,55 @@ public class ScriptCommand extends RichCommand {
             final String[] path = context.get("path");
             if (path.length != 0) {
                 // Reload specific script
-                processPath(sender, String.join(" ", path), script -> {
-                    script.unload();
-                    script.load();
-                    sender.sendMessage(Component.text("Script reloaded", NamedTextColor.GREEN));
-                });
+                // Completed on another thread, outside of the silent execution
+                final boolean silent = CommandUtils.isSilent();
+                processPath(sender, String.join(" ", path), script ->
+                        // Evaluated in the background, the previous version stays active until then
+                        ScriptManager.reloadScript(script.name(), true).thenAccept(reloaded -> {
+                            if (silent) return;
+                            if (reloaded) {
+                                sendFeedback(sender, () -> Component.text("Script reloaded", NamedTextColor.GREEN));
+                            } else {
+                                sendFeedback(sender, () -> Component.text("Script could not be reloaded", NamedTextColor.RED));
+                            }
+                        }));
             } else {
                 // Reload all scripts
                 ScriptManager.reload();
                 final List<Script> scripts = getScripts();
-                sender.sendMessage(Component.text("You did reload " + scripts.size() + " scripts!", NamedTextColor.GREEN));
+                sendFeedback(sender, () -> Component.text("You did reload " + scripts.size() + " scripts!", NamedTextColor.GREEN));
             }
         }, Literal("reload"), pathArgument);
     }
 
+    private static @NotNull Component listComponent(@NotNull Script script) {
+        final String name = script.name();
+        return Component.text(name, script.isLoaded() ? NamedTextColor.GREEN : NamedTextColor.RED)
+                .hoverEvent(HoverEvent.showText(Component.text("Loaded in " + script.loadTime().toMillis() + "ms", NamedTextColor.GRAY)))
+                .append(Component.space())
+                .append(Component.text("[Load]")
+                        .color(NamedTextColor.GRAY)
+                        .hoverEvent(HoverEvent.showText(Component.text("Click to load " + name, NamedTextColor.GRAY)))
+                        .clickEvent(ClickEvent.runCommand("/script load " + name)))
+                .append(Component.space())
+                .append(Component.text("[Unload]")
+                        .color(NamedTextColor.DARK_GRAY)
+                        .hoverEvent(HoverEvent.showText(Component.text("Click to unload " + name, NamedTextColor.DARK_GRAY)))
+                        .clickEvent(ClickEvent.runCommand("/script unload " + name)));
+    }
+
+    private static @NotNull Component statsComponent(@NotNull Script script) {
+        Component component = Component.text(script.name() + ": ", NamedTextColor.GRAY)
+                .append(Component.text(script.loadTime().toMillis() + "ms", NamedTextColor.WHITE));
+        final ScriptEventLoop eventLoop = script.eventLoop();
+        if (eventLoop != null) {
+            component = component.append(Component.text(" (queue: " + eventLoop.queueDepth() +
+                    ", wait avg/max: " + eventLoop.averageWait().toNanos() / 1000 + "µs/" +
+                    eventLoop.maxWait().toMillis() + "ms, dropped: " + eventLoop.droppedCount() + ")", NamedTextColor.DARK_GRAY));
+        }
+        return component;
+    }
+
     private @NotNull List<Script> getScripts() {
         return ScriptManager.getScripts();
     }
@@ -109,7 +147,7 @@ public class ScriptCommand extends RichCommand {
                 .findFirst();
 
         optionalScript.ifPresentOrElse(scriptConsumer, () ->
-                sender.sendMessage(Component.text("Invalid path", NamedTextColor.RED)));
+                sendFeedback(sender, () -> Component.text("Invalid path", NamedTextColor.RED)));
     }
 
     private void pathSuggestion(CommandSender sender, CommandContext context, Suggestion suggestion) {
@@ -21,7 +21,7 @@ public class SignalCommand extends RichCommand {
         super("signal");
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Usage: /signal run <name> [properties...]")));
+                sendFeedback(sender, () -> Component.text("Usage: /signal run <name> [properties...]")));
 
         final var propertiesArgument = Loop("properties",
                 Group("properties_group", Word("key"), NBT("value")))
@@ -40,7 +40,7 @@ public class SignalCommand extends RichCommand {
             }
 
             getApi().getExecutor().signal(name, properties);
-            sender.sendMessage(Component.text("You executed the signal " + name,
+            sendFeedback(sender, () -> Component.text("You executed the signal " + name,
                     NamedTextColor.GRAY, TextDecoration.ITALIC));
         }, Literal("run"), Word("name"), propertiesArgument);
     }
@@ -26,15 +26,24 @@ public class ArgumentFlexibleComponent extends Argument<Component> {
         this.infinite = infinite;
     }
 
+    /**
+     * Parses an unquoted JSON or MiniMessage input.
+     *
+     * @param input the component input
+     * @return the parsed component
+     */
+    public static @NotNull Component deserialize(@NotNull String input) {
+        try {
+            return readJson(input);
+        } catch (Exception ex) {
+            return MINI_MESSAGE.deserialize(input);
+        }
+    }
+
     @Override
     public @NotNull Component parse(@NotNull CommandSender sender, @NotNull String input) throws ArgumentSyntaxException {
         try {
-            final JsonReader reader = new JsonReader(new StringReader(input));
-
-            return GsonComponentSerializer.gson()
-                .serializer()
-                .getAdapter(Component.class)
-                .read(reader);
+            return readJson(input);
         } catch(Exception ex) {
             if(!infinite) {
                 // Input needs to be quoted
@@ -46,6 +55,15 @@ public class ArgumentFlexibleComponent extends Argument<Component> {
         }
     }
 
+    private static @NotNull Component readJson(@NotNull String input) throws Exception {
+        final JsonReader reader = new JsonReader(new StringReader(input));
+
+        return GsonComponentSerializer.gson()
+            .serializer()
+            .getAdapter(Component.class)
+            .read(reader);
+    }
+
     @Override
     public String parser() {
         // using minecraft:function is a namespace that doesn't break anything
@@ -13,7 +13,6 @@ import net.minestom.server.command.CommandSender;
 import net.minestom.server.command.builder.arguments.ArgumentEnum;
 import net.minestom.server.command.builder.arguments.minecraft.ArgumentResourceLocation;
 import net.minestom.server.entity.Entity;
-import net.minestom.server.utils.entity.EntityFinder;
 
 import java.lang.String;
 import java.util.List;
@@ -42,14 +41,12 @@ public class BossBarCommand extends RichCommand {
         var nameArgument = new ArgumentFlexibleComponent("name", true);
 
         addSyntax((sender, context) -> {
-            Component component = Component.text("Boss bars (" + bossBarMap.size() + "):", NamedTextColor.WHITE);
-
-            sender.sendMessage(component);
+            sendFeedback(sender, () -> Component.text("Boss bars (" + bossBarMap.size() + "):", NamedTextColor.WHITE));
 
             Component tab = Component.newline().append(Component.text("    "));
 
             bossBarMap.forEach((identifier, bossBar) -> {
-                Component barComponent = Component.text(identifier + ":", NamedTextColor.GRAY)
+                sendFeedback(sender, () -> Component.text(identifier + ":", NamedTextColor.GRAY)
                         .append(tab)
                         .append(getPropertyComponent(identifier, "Color", bossBar.color().toString().toLowerCase()))
                         .append(tab)
@@ -59,8 +56,7 @@ public class BossBarCommand extends RichCommand {
                         .append(tab)
                         .append(getPropertyComponent(identifier, "Progress", (int) (bossBar.progress() * 100) + "%"))
                         .append(tab)
-                        .append(getPropertyComponent(identifier, "Style", bossBar.overlay().name().toLowerCase()));
-                sender.sendMessage(barComponent);
+                        .append(getPropertyComponent(identifier, "Style", bossBar.overlay().name().toLowerCase())));
             });
         }, Literal("list"));
 
@@ -73,9 +69,9 @@ public class BossBarCommand extends RichCommand {
             synchronized (bossBarMap) {
                 if (!bossBarMap.containsKey(identifier)) {
                     bossBarMap.put(identifier, bossBar);
-                    sender.sendMessage(Component.text("Boss bar '" + identifier + "' created successfully!", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Boss bar '" + identifier + "' created successfully!", NamedTextColor.GREEN));
                 } else {
-                    sender.sendMessage(Component.text("A boss bar with the identifier '" + identifier + "' already exists!", NamedTextColor.RED));
+                    sendFeedback(sender, () -> Component.text("A boss bar with the identifier '" + identifier + "' already exists!", NamedTextColor.RED));
                 }
             }
 
@@ -87,7 +83,7 @@ public class BossBarCommand extends RichCommand {
                 synchronized (bossBarMap){
                     bossBarMap.remove(identifier);
                     MinecraftServer.getBossBarManager().destroyBossBar(bossBar);
-                    sender.sendMessage(Component.text("Bossbar '" + identifier + "' destroyed", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Bossbar '" + identifier + "' destroyed", NamedTextColor.GREEN));
                 }
             });
         }, Literal("remove"), identifierArgument);
@@ -106,7 +102,7 @@ public class BossBarCommand extends RichCommand {
                 final BossBar.Color color = context.get("value");
                 processBossBar(sender, identifier, bossBar -> {
                     bossBar.color(color);
-                    sender.sendMessage(Component.text("Color modified", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Color modified", NamedTextColor.GREEN));
                 });
             }, identifierArgument, Literal("color"), Enum("value", BossBar.Color.class).setFormat(ArgumentEnum.Format.LOWER_CASED));
 
@@ -115,14 +111,13 @@ public class BossBarCommand extends RichCommand {
                 final Component component = context.get(nameArgument);
                 processBossBar(sender, identifier, bossBar -> {
                     bossBar.name(component);
-                    sender.sendMessage(Component.text("Name modified", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Name modified", NamedTextColor.GREEN));
                 });
             }, identifierArgument, Literal("name"), nameArgument);
 
             addSyntax((sender, context) -> {
                 final String identifier = context.get(identifierArgument);
-                EntityFinder entityFinder = context.get("targets");
-                final List<Entity> entities = entityFinder.find(sender);
+                final List<Entity> entities = findEntities(sender, context, "targets");
 
                 processBossBar(sender, identifier, bossBar -> {
                     // Remove all current viewers
@@ -133,7 +128,7 @@ public class BossBarCommand extends RichCommand {
                             .map(Audience.class::cast)
                             .forEach(audience -> audience.showBossBar(bossBar));
 
-                    sender.sendMessage(Component.text("Bossbar sent", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Bossbar sent", NamedTextColor.GREEN));
                 });
             }, identifierArgument, Literal("players"), Entity("targets").onlyPlayers(true));
 
@@ -142,7 +137,7 @@ public class BossBarCommand extends RichCommand {
                 final BossBar.Overlay overlay = context.get("value");
                 processBossBar(sender, identifier, bossBar -> {
                     bossBar.overlay(overlay);
-                    sender.sendMessage(Component.text("Style modified", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Style modified", NamedTextColor.GREEN));
                 });
             }, identifierArgument, Literal("style"), Enum("value", BossBar.Overlay.class).setFormat(ArgumentEnum.Format.LOWER_CASED));
 
@@ -151,7 +146,7 @@ public class BossBarCommand extends RichCommand {
                 final int value = context.get("value");
                 processBossBar(sender, identifier, bossBar -> {
                     bossBar.progress((float) value / 100);
-                    sender.sendMessage(Component.text("Progress modified", NamedTextColor.GREEN));
+                    sendFeedback(sender, () -> Component.text("Progress modified", NamedTextColor.GREEN));
                 });
             }, identifierArgument, Literal("progress"), Integer("value").between(0, 100));
         }
@@ -162,7 +157,7 @@ public class BossBarCommand extends RichCommand {
         if (bossBar != null) {
             consumer.accept(bossBar);
         } else {
-            sender.sendMessage(Component.text("Invalid identifier", NamedTextColor.RED));
+            sendFeedback(sender, () -> Component.text("Invalid identifier", NamedTextColor.RED));
         }
     }
 
@@ -1,11 +1,9 @@
 package net.minestom.script.command.display;
 
-import net.kyori.adventure.audience.Audience;
 import net.kyori.adventure.text.Component;
 import net.minestom.script.command.RichCommand;
 import net.minestom.script.command.arguments.ArgumentFlexibleComponent;
 import net.minestom.server.entity.Entity;
-import net.minestom.server.utils.entity.EntityFinder;
 
 import java.util.List;
 
@@ -16,16 +14,12 @@ public class TellrawCommand extends RichCommand {
         super("tellraw");
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Usage: /display tellraw <targets> <message>")));
+                sendFeedback(sender, () -> Component.text("Usage: /display tellraw <targets> <message>")));
 
         addSyntax((sender, context) -> {
-            EntityFinder entityFinder = context.get("targets");
             final Component component = context.get("component");
-            final List<Entity> entities = entityFinder.find(sender);
-            entities.stream()
-                    .filter(Audience.class::isInstance)
-                    .map(Audience.class::cast)
-                    .forEach(audience -> audience.sendMessage(component));
+            final List<Entity> entities = findEntities(sender, context, "targets");
+            getApi().getDisplayHandler().message(entities, component);
         }, Entity("targets").onlyPlayers(true), new ArgumentFlexibleComponent("component", true));
 
     }
@@ -8,7 +8,6 @@ import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.potion.Potion;
 import net.minestom.server.potion.PotionEffect;
-import net.minestom.server.utils.entity.EntityFinder;
 
 import java.util.List;
 
@@ -28,14 +27,13 @@ public class EffectCommand extends RichCommand {
         {
             addSyntax((sender, context) -> {
                 final PotionEffect potionEffect = context.get("effect");
-                final EntityFinder entityFinder = context.get("targets");
-                final List<Entity> targets = entityFinder.find(sender);
+                final List<Entity> targets = findEntities(sender, context, "targets");
 
                 for (Entity target : targets) {
                     target.removeEffect(potionEffect);
                 }
 
-                sender.sendMessage(Component.text("Potion effect removed successfully!"));
+                sendFeedback(sender, () -> Component.text("Potion effect removed successfully!"));
             }, Literal("clear"), targetArgument, effectArgument);
 
             addSyntax((sender, context) -> {
@@ -45,7 +43,7 @@ public class EffectCommand extends RichCommand {
                 }
                 final Player player = sender.asPlayer();
                 player.clearEffects();
-                sender.sendMessage(Component.text("Your effects have been cleared!"));
+                sendFeedback(sender, () -> Component.text("Your effects have been cleared!"));
             }, Literal("clear"));
         }
 
@@ -53,10 +51,9 @@ public class EffectCommand extends RichCommand {
         {
             addSyntax((sender, context) -> {
                         final PotionEffect potionEffect = context.get("effect");
-                        final EntityFinder entityFinder = context.get("targets");
                         final int ticks = context.get("seconds");
                         final int amplifier = context.get("amplifier");
-                        final List<Entity> targets = entityFinder.find(sender);
+                        final List<Entity> targets = findEntities(sender, context, "targets");
 
                         Potion potion = new Potion(potionEffect, (byte) amplifier, ticks * 20, (byte) 0);
 
@@ -64,7 +61,7 @@ public class EffectCommand extends RichCommand {
                             target.addEffect(potion);
                         }
 
-                        sender.sendMessage(Component.text("Potion effect applied successfully!"));
+                        sendFeedback(sender, () -> Component.text("Potion effect applied successfully!"));
                     }, Literal("give"), targetArgument, effectArgument,
                     Integer("seconds").setDefaultValue(() -> 30),
                     Integer("amplifier").setDefaultValue(() -> 0));
@@ -73,7 +70,7 @@ public class EffectCommand extends RichCommand {
     }
 
     private void usage(CommandSender sender, CommandContext context) {
-        sender.sendMessage(Component.text("Usage: /entity effect clear [<targets>] [<effect>]"));
-        sender.sendMessage(Component.text("Usage: /entity effect give <targets> <effect> [<seconds>] [<amplifier>] [<hideParticles>]"));
+        sendFeedback(sender, () -> Component.text("Usage: /entity effect clear [<targets>] [<effect>]"));
+        sendFeedback(sender, () -> Component.text("Usage: /entity effect give <targets> <effect> [<seconds>] [<amplifier>] [<hideParticles>]"));
     }
 }
@@ -13,8 +13,6 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.pathfinding.NavigableEntity;
-import net.minestom.server.utils.entity.EntityFinder;
-import net.minestom.server.utils.location.RelativeVec;
 
 import java.lang.String;
 import java.util.List;
@@ -26,7 +24,7 @@ public class EntityEditorCommand extends RichCommand {
     public EntityEditorCommand() {
         super("editor");
 
-        setDefaultExecutor((sender, context) -> sender.sendMessage(Component.text("Usage: /editor <create/edit/remove>")));
+        setDefaultExecutor((sender, context) -> sendFeedback(sender, () -> Component.text("Usage: /editor <create/edit/remove>")));
 
         var entityArgument = Entity("entity").singleEntity(true);
 
@@ -36,9 +34,7 @@ public class EntityEditorCommand extends RichCommand {
             context.setReturnData(commandData);
 
             final EntityType entityType = context.get("entity_type");
-            final RelativeVec relativeVec = context.get("spawn_position");
-
-            final Vec spawnPosition = relativeVec.fromSender(sender);
+            final Vec spawnPosition = findPosition(sender, context, "spawn_position");
 
             Entity entity = ScriptManager.getEntitySupplier().apply(entityType);
             processInstances(sender, instance -> entity.setInstance(instance, spawnPosition.asPosition()));
@@ -46,40 +42,37 @@ public class EntityEditorCommand extends RichCommand {
             commandData.set("success", true);
             commandData.set("entity", Properties.fromEntity(entity));
 
-            final String uuid = entity.getUuid().toString();
-            final Component component = Component.text("Entity created:")
-                    .append(Component.space())
-                    .append(Component.text(uuid)
-                            .color(NamedTextColor.GRAY)
-                            .hoverEvent(HoverEvent.showText(Component.text("Click to copy", NamedTextColor.GRAY)))
-                            .clickEvent(ClickEvent.copyToClipboard(uuid)));
-
-            sender.sendMessage(component);
+            sendFeedback(sender, () -> {
+                final String uuid = entity.getUuid().toString();
+                return Component.text("Entity created:")
+                        .append(Component.space())
+                        .append(Component.text(uuid)
+                                .color(NamedTextColor.GRAY)
+                                .hoverEvent(HoverEvent.showText(Component.text("Click to copy", NamedTextColor.GRAY)))
+                                .clickEvent(ClickEvent.copyToClipboard(uuid)));
+            });
 
         }, Literal("create"), EntityType("entity_type"), RelativeVec3("spawn_position"));
 
         // /editor edit
         addSyntax((sender, context) -> {
-            final EntityFinder entityFinder = context.get(entityArgument);
-            final Entity entity = entityFinder.findFirstEntity(sender);
+            final Entity entity = findEntity(sender, context, entityArgument.getId());
 
             if (entity == null) {
-                sender.sendMessage(Component.text("Entity not found", NamedTextColor.RED));
+                sendFeedback(sender, () -> Component.text("Entity not found", NamedTextColor.RED));
                 return;
             }
 
             List<CommandContext> properties = context.get("properties");
             for (CommandContext property : properties) {
                 if (property.has("position")) {
-                    final RelativeVec relativeVec = property.get("position_value");
-                    final Vec vector = relativeVec.fromSender(sender);
+                    final Vec vector = findPosition(sender, property, "position_value");
 
                     entity.teleport(vector.asPosition());
                 }
 
                 if (property.has("path")) {
-                    final RelativeVec relativeVec = property.get("path_value");
-                    final Vec vector = relativeVec.fromSender(sender);
+                    final Vec vector = findPosition(sender, property, "path_value");
 
                     if (entity instanceof NavigableEntity) {
                         ((NavigableEntity) entity).getNavigator().setPathTo(vector.asPosition());
@@ -87,13 +80,12 @@ public class EntityEditorCommand extends RichCommand {
                 }
 
                 if (property.has("view")) {
-                    final RelativeVec relativeVec = property.get("view_value");
-                    final Vec vector = relativeVec.fromSender(sender);
+                    final Vec vector = findPosition(sender, property, "view_value");
                     entity.setView((float) vector.x(), (float) vector.z());
                 }
             }
 
-            sender.sendMessage(Component.text("Entity edited!", NamedTextColor.GREEN));
+            sendFeedback(sender, () -> Component.text("Entity edited!", NamedTextColor.GREEN));
 
         }, Literal("edit"), entityArgument, Loop("properties",
                 Group("position_group", Literal("position"), RelativeVec3("position_value")),
@@ -102,13 +94,12 @@ public class EntityEditorCommand extends RichCommand {
 
         // /editor remove
         addSyntax((sender, context) -> {
-            final EntityFinder entityFinder = context.get(entityArgument);
-            final Entity entity = entityFinder.findFirstEntity(sender);
+            final Entity entity = findEntity(sender, context, entityArgument.getId());
             if (entity != null) {
                 entity.remove();
-                sender.sendMessage(Component.text("Entity removed", NamedTextColor.GREEN));
+                sendFeedback(sender, () -> Component.text("Entity removed", NamedTextColor.GREEN));
             } else {
-                sender.sendMessage(Component.text("Entity not found", NamedTextColor.RED));
+                sendFeedback(sender, () -> Component.text("Entity not found", NamedTextColor.RED));
             }
         }, Literal("remove"), entityArgument);
     }
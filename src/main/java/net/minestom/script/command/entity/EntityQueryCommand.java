@@ -6,7 +6,6 @@ import net.minestom.script.command.RichCommand;
 import net.minestom.script.utils.EntityUtils;
 import net.minestom.server.command.builder.CommandData;
 import net.minestom.server.entity.Entity;
-import net.minestom.server.utils.entity.EntityFinder;
 
 import java.util.List;
 
@@ -17,15 +16,16 @@ public class EntityQueryCommand extends RichCommand {
         super("query");
 
         addSyntax((sender, context) -> {
-            EntityFinder entityFinder = context.get("targets");
-            List<Entity> entities = entityFinder.find(sender);
-
-            Component component = Component.text("Entities(" + entities.size() + "):", NamedTextColor.WHITE);
-            for (Entity entity : entities) {
-                component = component.append(Component.newline())
-                        .append(EntityUtils.getDisplayComponent(entity));
-            }
-            sender.sendMessage(component);
+            List<Entity> entities = findEntities(sender, context, "targets");
+
+            sendFeedback(sender, () -> {
+                Component component = Component.text("Entities(" + entities.size() + "):", NamedTextColor.WHITE);
+                for (Entity entity : entities) {
+                    component = component.append(Component.newline())
+                            .append(EntityUtils.getDisplayComponent(entity));
+                }
+                return component;
+            });
 
             CommandData commandData = new CommandData();
             commandData.set("entities", entities);
@@ -33,12 +33,12 @@ public class GamemodeCommand extends RichCommand {
     }
 
     private void usage(CommandSender sender, CommandContext context) {
-        sender.sendMessage(Component.text("Usage: /gamemode [player] <gamemode>"));
+        sendFeedback(sender, () -> Component.text("Usage: /gamemode [player] <gamemode>"));
     }
 
     private void executeOnSelf(CommandSender sender, CommandContext context) {
         if (!sender.isPlayer()) {
-            sender.sendMessage(Component.text("The command is only available for player", NamedTextColor.RED));
+            sendFeedback(sender, () -> Component.text("The command is only available for player", NamedTextColor.RED));
             return;
         }
 
@@ -47,7 +47,7 @@ public class GamemodeCommand extends RichCommand {
         GameMode gamemode = context.get("gamemode");
         assert gamemode != null; // mode is not supposed to be null, because gamemodeName will be valid
         player.setGameMode(gamemode);
-        player.sendMessage(Component.text("You are now playing in " + gamemode.toString().toLowerCase(), NamedTextColor.GREEN));
+        sendFeedback(player, () -> Component.text("You are now playing in " + gamemode.toString().toLowerCase(), NamedTextColor.GREEN));
     }
 
     private void executeOnOther(CommandSender sender, CommandContext context) {
@@ -57,14 +57,14 @@ public class GamemodeCommand extends RichCommand {
         assert gamemode != null; // mode is not supposed to be null, because gamemodeName will be valid
         assert target != null;
         target.setGameMode(gamemode);
-        target.sendMessage(Component.text("You are now playing in " + gamemode.toString().toLowerCase(), NamedTextColor.GREEN));
+        sendFeedback(target, () -> Component.text("You are now playing in " + gamemode.toString().toLowerCase(), NamedTextColor.GREEN));
     }
 
     private void targetCallback(CommandSender sender, ArgumentSyntaxException exception) {
-        sender.sendMessage(Component.text("'" + exception.getInput() + "' is not a valid player name.", NamedTextColor.RED));
+        sendFeedback(sender, () -> Component.text("'" + exception.getInput() + "' is not a valid player name.", NamedTextColor.RED));
     }
 
     private void gameModeCallback(CommandSender sender, ArgumentSyntaxException exception) {
-        sender.sendMessage(Component.text("'" + exception.getInput() + "' is not a valid gamemode!", NamedTextColor.RED));
+        sendFeedback(sender, () -> Component.text("'" + exception.getInput() + "' is not a valid gamemode!", NamedTextColor.RED));
     }
 }
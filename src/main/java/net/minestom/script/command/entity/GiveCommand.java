@@ -7,7 +7,6 @@ import net.minestom.server.entity.Player;
 import net.minestom.server.inventory.PlayerInventory;
 import net.minestom.server.inventory.TransactionOption;
 import net.minestom.server.item.ItemStack;
-import net.minestom.server.utils.entity.EntityFinder;
 
 import java.util.ArrayList;
 import java.util.Collections;
@@ -21,13 +20,12 @@ public class GiveCommand extends RichCommand {
         super("give");
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Usage: /entity give <target> <item> [<count>]")));
+                sendFeedback(sender, () -> Component.text("Usage: /entity give <target> <item> [<count>]")));
 
         addSyntax((sender, context) -> {
-            final EntityFinder entityFinder = context.get("target");
             int count = context.get("count");
             count = Math.min(count, PlayerInventory.INVENTORY_SIZE * 64);
-            ItemStack itemStack = context.get("item");
+            ItemStack itemStack = findItemStack(context, "item");
 
             List<ItemStack> itemStacks;
             if (count <= 64) {
@@ -42,7 +40,7 @@ public class GiveCommand extends RichCommand {
                 itemStacks.add(itemStack.withAmount(count));
             }
 
-            final List<Entity> targets = entityFinder.find(sender);
+            final List<Entity> targets = findEntities(sender, context, "target");
             for (Entity target : targets) {
                 if (target instanceof Player) {
                     Player player = (Player) target;
@@ -50,7 +48,7 @@ public class GiveCommand extends RichCommand {
                 }
             }
 
-            sender.sendMessage(Component.text("Items have been given successfully!"));
+            sendFeedback(sender, () -> Component.text("Items have been given successfully!"));
 
         }, Entity("target").onlyPlayers(true), ItemStack("item"), Integer("count").setDefaultValue(() -> 1));
     }
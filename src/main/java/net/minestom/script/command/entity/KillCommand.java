@@ -4,7 +4,6 @@ import net.kyori.adventure.text.Component;
 import net.minestom.script.command.RichCommand;
 import net.minestom.server.command.builder.arguments.ArgumentType;
 import net.minestom.server.entity.Entity;
-import net.minestom.server.entity.LivingEntity;
 import net.minestom.server.entity.Player;
 import net.minestom.server.utils.entity.EntityFinder;
 
@@ -16,7 +15,7 @@ public class KillCommand extends RichCommand {
 
         setDefaultExecutor((sender, context) -> {
             if (!sender.isPlayer()) {
-                sender.sendMessage(Component.text("Usage: /kill <targets>"));
+                sendFeedback(sender, () -> Component.text("Usage: /kill <targets>"));
                 return;
             }
             final Player player = sender.asPlayer();
@@ -24,16 +23,11 @@ public class KillCommand extends RichCommand {
         });
 
         addSyntax((sender, context) -> {
-            EntityFinder entityFinder = context.get("targets");
-            final List<Entity> entities = entityFinder.find(sender);
+            final List<Entity> entities = findEntities(sender, context, "targets");
             for (Entity entity : entities) {
-                if (entity instanceof LivingEntity) {
-                    ((LivingEntity) entity).kill();
-                } else {
-                    entity.remove();
-                }
+                getApi().getEntityHandler().kill(entity);
             }
-            sender.sendMessage(Component.text("Entities removed!"));
+            sendFeedback(sender, () -> Component.text("Entities removed!"));
         }, ArgumentType.Entity("targets").setDefaultValue(EntityFinder::new));
     }
 }
@@ -1,8 +1,8 @@
 package net.minestom.script.command.entity;
 
+import net.kyori.adventure.text.Component;
 import net.minestom.script.command.RichCommand;
 import net.minestom.server.coordinate.Vec;
-import net.minestom.server.utils.entity.EntityFinder;
 import net.minestom.server.utils.location.RelativeVec;
 
 import static net.minestom.server.command.builder.arguments.ArgumentType.*;
@@ -12,12 +12,11 @@ public class PushCommand extends RichCommand {
     public PushCommand() {
         super("push");
 
-        setDefaultExecutor((sender, context) -> sender.sendMessage("Usage: /push <targets> <type> <...>"));
+        setDefaultExecutor((sender, context) -> sendFeedback(sender, () -> Component.text("Usage: /push <targets> <type> <...>")));
 
         // Push from a second position
         addSyntax((sender, context) -> {
-            EntityFinder entityFinder = context.get("targets");
-            final var entities = entityFinder.find(sender);
+            final var entities = findEntities(sender, context, "targets");
             RelativeVec relativeVec = context.get("position");
 
             for (var entity : entities) {
@@ -25,13 +24,12 @@ public class PushCommand extends RichCommand {
                 entity.setVelocity(vector.sub(entity.getPosition()));
             }
 
-            sender.sendMessage("Pushed");
+            sendFeedback(sender, () -> Component.text("Pushed"));
 
         }, Entity("targets"), Literal("to"), RelativeVec3("position"));
 
         addSyntax((sender, context) -> {
-            EntityFinder entityFinder = context.get("targets");
-            final var entities = entityFinder.find(sender);
+            final var entities = findEntities(sender, context, "targets");
             RelativeVec relativeVec = context.get("position");
 
             for (var entity : entities) {
@@ -39,7 +37,7 @@ public class PushCommand extends RichCommand {
                 entity.setVelocity(entity.getPosition().direction().normalize().mul(vector));
             }
 
-            sender.sendMessage("Pushed forward");
+            sendFeedback(sender, () -> Component.text("Pushed forward"));
 
         }, Entity("targets"), Literal("forward"), RelativeVec3("position"));
     }
@@ -13,7 +13,6 @@ import net.minestom.server.command.builder.arguments.relative.ArgumentRelativeVe
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
-import net.minestom.server.utils.entity.EntityFinder;
 import net.minestom.server.utils.location.RelativeVec;
 
 import java.util.List;
@@ -42,10 +41,10 @@ public class TeleportCommand extends RichCommand {
 
     private void usage(CommandSender sender, CommandContext context) {
         if (sender.isPlayer()) {
-            sender.sendMessage(Component.text("Usage: /tp <location>"));
-            sender.sendMessage(Component.text("Usage: /tp <destination>"));
+            sendFeedback(sender, () -> Component.text("Usage: /tp <location>"));
+            sendFeedback(sender, () -> Component.text("Usage: /tp <destination>"));
         }
-        sender.sendMessage(Component.text("Usage: /tp <targets> (<destination>|<location>)"));
+        sendFeedback(sender, () -> Component.text("Usage: /tp <targets> (<destination>|<location>)"));
     }
 
     private void selfToEntity(CommandSender sender, CommandContext context) {
@@ -54,15 +53,13 @@ public class TeleportCommand extends RichCommand {
             return;
         }
 
-        EntityFinder entityFinder = context.get(destination);
-
-        List<Entity> entities = entityFinder.find(sender);
+        List<Entity> entities = findEntities(sender, context, destination.getId());
 
         if (entities.size() > 0) {
             teleport(sender.asPlayer(), entities.get(0).getPosition());
-            sender.sendMessage(Component.text("Teleport to entity"));
+            sendFeedback(sender, () -> Component.text("Teleport to entity"));
         } else {
-            sender.sendMessage(Component.text("No destination found", NamedTextColor.RED));
+            sendFeedback(sender, () -> Component.text("No destination found", NamedTextColor.RED));
         }
     }
 
@@ -78,15 +75,13 @@ public class TeleportCommand extends RichCommand {
         Pos position = relativeVec.from(player).asPosition();
 
         teleport(player, position);
-        player.sendMessage(Component.text("Teleported " + player.getUsername() + " to " +
+        sendFeedback(player, () -> Component.text("Teleported " + player.getUsername() + " to " +
                 position.x() + ", " + position.y() + ", " + position.z()));
     }
 
     public void targetToLocation(CommandSender sender, CommandContext context) {
         RelativeVec relativeVec = context.get(location);
-        EntityFinder entityTarget = context.get(targets);
-
-        List<Entity> targetsEntity = entityTarget.find(sender);
+        List<Entity> targetsEntity = findEntities(sender, context, targets.getId());
 
         if (targetsEntity.size() > 0) {
             targetsEntity.stream()
@@ -98,9 +93,9 @@ public class TeleportCommand extends RichCommand {
                         teleport(entity, position);
                         sendTeleportedMessage(sender, entity, position);
                     });
-            sender.sendMessage(Component.text("Teleported target(s)"));
+            sendFeedback(sender, () -> Component.text("Teleported target(s)"));
         } else {
-            sender.sendMessage(Component.text("No target found", NamedTextColor.RED));
+            sendFeedback(sender, () -> Component.text("No target found", NamedTextColor.RED));
         }
     }
 
@@ -108,8 +103,7 @@ public class TeleportCommand extends RichCommand {
         RelativeVec relativeVec = context.get(location);
         RelativeVec relativeDirection = context.get(direction);
 
-        EntityFinder entityTarget = context.get(targets);
-        List<Entity> targetsEntity = entityTarget.find(sender);
+        List<Entity> targetsEntity = findEntities(sender, context, targets.getId());
 
         if (targetsEntity.size() > 0) {
             targetsEntity.stream()
@@ -121,19 +115,16 @@ public class TeleportCommand extends RichCommand {
                         teleport(entity, position);
                         sendTeleportedMessage(sender, entity, position);
                     });
-            sender.sendMessage(Component.text("Teleported target(s)"));
+            sendFeedback(sender, () -> Component.text("Teleported target(s)"));
         } else {
-            sender.sendMessage(Component.text("No target found", NamedTextColor.RED));
+            sendFeedback(sender, () -> Component.text("No target found", NamedTextColor.RED));
         }
 
     }
 
     public void targetToDestination(CommandSender sender, CommandContext context) {
-        EntityFinder destinationFinder = context.get(destination);
-        EntityFinder entityTarget = context.get(targets);
-
-        List<Entity> targetsEntity = entityTarget.find(sender);
-        Entity destination = destinationFinder.find(sender).get(0);
+        List<Entity> targetsEntity = findEntities(sender, context, targets.getId());
+        Entity destination = findEntities(sender, context, this.destination.getId()).get(0);
 
         if (targetsEntity.size() > 0) {
             targetsEntity.stream()
@@ -145,9 +136,9 @@ public class TeleportCommand extends RichCommand {
                         teleport(entity, position);
                         sendTeleportedMessage(sender, entity, position);
                     });
-            sender.sendMessage(Component.text("Teleported target(s)"));
+            sendFeedback(sender, () -> Component.text("Teleported target(s)"));
         } else {
-            sender.sendMessage(Component.text("No target found", NamedTextColor.RED));
+            sendFeedback(sender, () -> Component.text("No target found", NamedTextColor.RED));
         }
     }
 
@@ -155,8 +146,7 @@ public class TeleportCommand extends RichCommand {
         RelativeVec relativeVec = context.get(location);
         RelativeVec relativeDirection = context.get(direction);
 
-        EntityFinder entityTarget = context.get(targets);
-        List<Entity> targetsEntity = entityTarget.find(sender);
+        List<Entity> targetsEntity = findEntities(sender, context, targets.getId());
 
         if (targetsEntity.size() > 0) {
             targetsEntity.stream()
@@ -168,20 +158,22 @@ public class TeleportCommand extends RichCommand {
                         teleport(entity, position);
                         sendTeleportedMessage(sender, entity, position);
                     });
-            sender.sendMessage(Component.text("Teleported target(s)"));
+            sendFeedback(sender, () -> Component.text("Teleported target(s)"));
         } else {
-            sender.sendMessage(Component.text("No target found", NamedTextColor.RED));
+            sendFeedback(sender, () -> Component.text("No target found", NamedTextColor.RED));
         }
     }
 
     public void teleport(Entity target, Pos result) {
-        target.teleport(result);
+        getApi().getEntityHandler().teleport(target, result);
     }
 
     private void sendTeleportedMessage(CommandSender sender, Entity entity, Pos position) {
-        String entityName = entity.getCustomName() == null ?
-                entity.getEntityType().name() : LegacyComponentSerializer.legacyAmpersand().serialize(entity.getCustomName());
-        sender.sendMessage(Component.text("Teleported " + entityName + " to " +
-                position.x() + ", " + position.y() + ", " + position.z()));
+        sendFeedback(sender, () -> {
+            String entityName = entity.getCustomName() == null ?
+                    entity.getEntityType().name() : LegacyComponentSerializer.legacyAmpersand().serialize(entity.getCustomName());
+            return Component.text("Teleported " + entityName + " to " +
+                    position.x() + ", " + position.y() + ", " + position.z());
+        });
     }
 }
@@ -3,12 +3,11 @@ package net.minestom.script.command.utils;
 import net.kyori.adventure.text.Component;
 import net.kyori.adventure.text.format.NamedTextColor;
 import net.minestom.script.command.RichCommand;
+import net.minestom.script.utils.CommandUtils;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.command.CommandManager;
 import net.minestom.server.command.builder.CommandResult;
 import net.minestom.server.command.builder.ParsedCommand;
-import net.minestom.server.network.ConnectionManager;
-import net.minestom.server.network.player.PlayerConnection;
 import org.jetbrains.annotations.NotNull;
 
 import java.lang.String;
@@ -20,17 +19,16 @@ public class AliasCommand extends RichCommand {
         super("alias");
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Usage: /alias create <name> <command>")));
+                sendFeedback(sender, () -> Component.text("Usage: /alias create <name> <command>")));
 
         final CommandManager commandManager = MinecraftServer.getCommandManager();
-        final ConnectionManager connectionManager = MinecraftServer.getConnectionManager();
 
         addSyntax((sender, context) -> {
             final String name = context.get("name");
 
             CommandResult commandResult = context.get("alias");
             if (commandResult.getParsedCommand() == null) {
-                sender.sendMessage(Component.text("Invalid command", NamedTextColor.RED));
+                sendFeedback(sender, () -> Component.text("Invalid command", NamedTextColor.RED));
                 return;
             }
 
@@ -38,12 +36,9 @@ public class AliasCommand extends RichCommand {
 
             AliasedCommand aliasedCommand = new AliasedCommand(name, shortcut);
             commandManager.register(aliasedCommand);
-            connectionManager.getOnlinePlayers().forEach(player -> {
-                final PlayerConnection connection = player.getPlayerConnection();
-                connection.sendPacket(commandManager.createDeclareCommandsPacket(player));
-            });
+            CommandUtils.updateCommands();
 
-            sender.sendMessage(Component.text("Alias created successfully!", NamedTextColor.GREEN));
+            sendFeedback(sender, () -> Component.text("Alias created successfully!", NamedTextColor.GREEN));
         }, Literal("create"), Word("name"), Command("alias"));
     }
 
@@ -59,7 +54,7 @@ public class AliasCommand extends RichCommand {
                 if (parsedCommand != null) {
                     parsedCommand.execute(sender);
                 } else {
-                    sender.sendMessage(Component.text("Alias is incorrect", NamedTextColor.RED));
+                    sendFeedback(sender, () -> Component.text("Alias is incorrect", NamedTextColor.RED));
                 }
 
             }, Command("cmd").setShortcut(shortcut));
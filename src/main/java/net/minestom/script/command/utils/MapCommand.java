@@ -32,7 +32,7 @@ public class MapCommand extends RichCommand {
 
             nbtMap.put(key.toLowerCase(), nbt);
 
-            sender.sendMessage(Component.text("Map entry '" + key + "' updated", NamedTextColor.GREEN));
+            sendFeedback(sender, () -> Component.text("Map entry '" + key + "' updated", NamedTextColor.GREEN));
         }, Literal("set"), keyArgument, NBT("value"));
 
         addSyntax((sender, context) -> {
@@ -44,12 +44,11 @@ public class MapCommand extends RichCommand {
             if (success) {
                 final NBT nbt = nbtMap.get(key.toLowerCase());
                 commandData.set("value", nbt);
-                Component component = Component.text("Map value:", NamedTextColor.WHITE)
+                sendFeedback(sender, () -> Component.text("Map value:", NamedTextColor.WHITE)
                         .append(Component.space())
-                        .append(Component.text(nbt.toSNBT(), NamedTextColor.GREEN));
-                sender.sendMessage(component);
+                        .append(Component.text(nbt.toSNBT(), NamedTextColor.GREEN)));
             } else {
-                sender.sendMessage(Component.text("Key not found!", NamedTextColor.RED));
+                sendFeedback(sender, () -> Component.text("Key not found!", NamedTextColor.RED));
             }
 
             context.setReturnData(commandData);
@@ -36,11 +36,11 @@ public class ScheduleCommand extends RichCommand {
         // /schedule list
         {
             addSyntax((sender, context) -> {
-                sender.sendMessage(Component.text("Task count: " + SCHEDULED_TASKS_MAP.size()));
+                sendFeedback(sender, () -> Component.text("Task count: " + SCHEDULED_TASKS_MAP.size()));
                 for (Map.Entry<Task, String> entry : SCHEDULED_TASKS_MAP.entrySet()) {
                     final Task task = entry.getKey();
                     final String command = entry.getValue();
-                    sender.sendMessage(Component.text("Task id '" + task.id() + "' with cmd " + command));
+                    sendFeedback(sender, () -> Component.text("Task id '" + task.id() + "' with cmd " + command));
                 }
             }, Literal("list"));
         }
@@ -55,14 +55,14 @@ public class ScheduleCommand extends RichCommand {
                     if (task.id() == id) {
                         task.cancel();
 
-                        sender.sendMessage(Component.text("You removed the task " + id + " successfully"));
+                        sendFeedback(sender, () -> Component.text("You removed the task " + id + " successfully"));
                         return true;
                     }
                     return false;
                 });
 
                 if (!removed) {
-                    sender.sendMessage(Component.text("The task " + id + " does not exist"));
+                    sendFeedback(sender, () -> Component.text("The task " + id + " does not exist"));
                 }
             }, Literal("remove"), Integer("task_id"));
         }
@@ -74,7 +74,7 @@ public class ScheduleCommand extends RichCommand {
                     task.cancel();
                     return true;
                 });
-                sender.sendMessage(Component.text("All tasks have been removed!"));
+                sendFeedback(sender, () -> Component.text("All tasks have been removed!"));
             }, Literal("removeall"));
         }
 
@@ -129,7 +129,7 @@ public class ScheduleCommand extends RichCommand {
                                      @Nullable Duration delay, @Nullable Duration repeat) {
         final ParsedCommand parsedCommand = commandResult.getParsedCommand();
         if (parsedCommand == null) {
-            sender.sendMessage(Component.text("Invalid command"));
+            sendFeedback(sender, () -> Component.text("Invalid command"));
             return;
         }
 
@@ -161,6 +161,6 @@ public class ScheduleCommand extends RichCommand {
         commandData.set("taskId", task.id());
         context.setReturnData(commandData);
 
-        sender.sendMessage(Component.text("You created the task " + task.id() + " successfully (" + input + ")"));
+        sendFeedback(sender, () -> Component.text("You created the task " + task.id() + " successfully (" + input + ")"));
     }
 }
@@ -6,30 +6,30 @@ import net.minestom.server.command.builder.CommandData;
 import net.minestom.server.command.builder.arguments.ArgumentType;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
-import net.minestom.server.utils.location.RelativeVec;
 
 public class GetBlockCommand extends RichCommand {
     public GetBlockCommand() {
         super("getblock");
 
-        setDefaultExecutor((sender, context) -> sender.sendMessage(Component.text("Usage: /world getblock <pos>")));
+        setDefaultExecutor((sender, context) -> sendFeedback(sender, () -> Component.text("Usage: /world getblock <pos>")));
         addSyntax((sender, context) -> {
-            RelativeVec relativeVec = context.get("position");
-            Vec blockPosition = relativeVec.fromSender(sender);
+            Vec blockPosition = findPosition(sender, context, "position");
             processInstances(sender, instance -> {
-                Block block = instance.getBlock(blockPosition);
+                Block block = getApi().getWorldHandler().getBlock(instance, blockPosition);
                 CommandData commandData = new CommandData();
                 commandData.set("block", block);
                 context.setReturnData(commandData);
 
-                final var nbt = block.nbt();
+                sendFeedback(sender, () -> {
+                    final var nbt = block.nbt();
 
-                Component component = Component.text("Block: " + block.name() + block.properties());
-                if (nbt != null) {
-                    component = component.append(Component.newline())
-                            .append(Component.text(nbt.toSNBT()));
-                }
-                sender.sendMessage(component);
+                    Component component = Component.text("Block: " + block.name() + block.properties());
+                    if (nbt != null) {
+                        component = component.append(Component.newline())
+                                .append(Component.text(nbt.toSNBT()));
+                    }
+                    return component;
+                });
             });
         }, ArgumentType.RelativeVec3("position"));
     }
@@ -6,7 +6,6 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.network.packet.server.play.ParticlePacket;
 import net.minestom.server.particle.Particle;
-import net.minestom.server.utils.location.RelativeVec;
 import org.jetbrains.annotations.NotNull;
 
 import static net.minestom.server.command.builder.arguments.ArgumentType.Float;
@@ -18,17 +17,15 @@ public class ParticleCommand extends RichCommand {
         super("particle");
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Usage: /particle <type> <position> <delta> <speed> <count>")));
+                sendFeedback(sender, () -> Component.text("Usage: /particle <type> <position> <delta> <speed> <count>")));
 
         addSyntax((sender, context) -> {
                     final Particle particle = context.get("particle");
-                    final RelativeVec relativePosition = context.get("position");
-                    final RelativeVec relativeDelta = context.get("delta");
                     final float speed = context.get("speed");
                     final int count = context.get("count");
 
-                    final Vec position = relativePosition.fromSender(sender);
-                    final Vec delta = relativeDelta.fromSender(sender);
+                    final Vec position = findPosition(sender, context, "position");
+                    final Vec delta = findPosition(sender, context, "delta");
 
                 var particlePacket = new ParticlePacket(
                         particle,
@@ -43,7 +40,7 @@ public class ParticleCommand extends RichCommand {
                         sender.asPlayer().sendPacketToViewersAndSelf(particlePacket);
                     }
 
-                    sender.sendMessage(Component.text("Particle(s) sent!"));
+                    sendFeedback(sender, () -> Component.text("Particle(s) sent!"));
 
                 }, Particle("particle"), RelativeVec3("position"),
                 RelativeVec3("delta"), Float("speed"),
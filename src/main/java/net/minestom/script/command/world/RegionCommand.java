@@ -5,11 +5,11 @@ import net.minestom.script.command.RichCommand;
 import net.minestom.script.component.RegionComponent;
 import net.minestom.server.command.builder.CommandData;
 import net.minestom.server.coordinate.Vec;
-import net.minestom.server.utils.location.RelativeVec;
 import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 
 import java.lang.String;
 import java.util.ArrayList;
+import java.util.List;
 
 import static net.minestom.server.command.builder.arguments.ArgumentType.*;
 
@@ -20,7 +20,7 @@ public class RegionCommand extends RichCommand {
         final RegionComponent regionComponent = getApi().getRegionHandler();
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Usage: /world region <create/edit> <identifier> [properties]")));
+                sendFeedback(sender, () -> Component.text("Usage: /world region <create/edit> <identifier> [properties]")));
 
         // All functions related to regions (eg: know if a position is inside a region)
         addSubcommand(new RegionFunctionCommand());
@@ -34,16 +34,15 @@ public class RegionCommand extends RichCommand {
         addSyntax((sender, context) -> {
             final String identifier = context.get("identifier");
 
-            RelativeVec posStart = context.get("pos1");
-            RelativeVec posEnd = context.get("pos2");
             NBTCompound data = context.get("region_data");
 
-            RegionComponent.Region region = regionComponent.createRegion(identifier, posStart.fromSender(sender), posEnd.fromSender(sender), data);
+            RegionComponent.Region region = regionComponent.createRegion(identifier,
+                    findPosition(sender, context, "pos1"), findPosition(sender, context, "pos2"), data);
             final boolean success = region != null;
             if (success) {
-                sender.sendMessage(Component.text("Region '" + identifier + "' created successfully!"));
+                sendFeedback(sender, () -> Component.text("Region '" + identifier + "' created successfully!"));
             } else {
-                sender.sendMessage(Component.text("Region '" + identifier + "' already exists!"));
+                sendFeedback(sender, () -> Component.text("Region '" + identifier + "' already exists!"));
             }
             context.setReturnData(new CommandData().set("success", success));
         }, Literal("create"), Word("identifier"), RelativeVec3("pos1"), RelativeVec3("pos2"), NbtCompound("region_data").setDefaultValue(new NBTCompound()));
@@ -52,9 +51,9 @@ public class RegionCommand extends RichCommand {
             final String identifier = context.get("identifier");
             final boolean success = regionComponent.deleteRegion(identifier);
             if (success) {
-                sender.sendMessage(Component.text("Region '" + identifier + "' has been deleted"));
+                sendFeedback(sender, () -> Component.text("Region '" + identifier + "' has been deleted"));
             } else {
-                sender.sendMessage(Component.text("Region '" + identifier + "' does not exist!"));
+                sendFeedback(sender, () -> Component.text("Region '" + identifier + "' does not exist!"));
             }
             context.setReturnData(new CommandData().set("success", success));
         }, Literal("delete"), Word("identifier"));
@@ -78,15 +77,14 @@ public class RegionCommand extends RichCommand {
                 addSyntax((sender, context) -> {
                     final String identifier = context.get("identifier");
                     final RegionComponent.Region region = regionComponent.getRegion(identifier);
-                    boolean inside;
+                    final boolean inside;
                     if (region != null) {
-                        RelativeVec relativeVec = context.get("position");
-                        final Vec vector = relativeVec.fromSender(sender);
+                        final Vec vector = findPosition(sender, context, "position");
                         inside = region.isInside(vector);
-                        sender.sendMessage(Component.text("inside: " + inside));
+                        sendFeedback(sender, () -> Component.text("inside: " + inside));
                     } else {
                         inside = false;
-                        sender.sendMessage(Component.text("region not found"));
+                        sendFeedback(sender, () -> Component.text("region not found"));
                     }
                     context.setReturnData(new CommandData().set("inside", inside));
                 }, Literal("is_inside"), Word("identifier"), RelativeVec3("position"));
@@ -104,15 +102,65 @@ public class RegionCommand extends RichCommand {
                     if (region != null) {
                         final NBTCompound nbtCompound = region.getNbtCompound();
                         data.set("data", nbtCompound);
-                        sender.sendMessage(Component.text("data: " + nbtCompound.toSNBT()));
+                        sendFeedback(sender, () -> Component.text("data: " + nbtCompound.toSNBT()));
                     } else {
-                        sender.sendMessage(Component.text("region not found"));
+                        sendFeedback(sender, () -> Component.text("region not found"));
                     }
 
                     context.setReturnData(data);
                 }, Literal("get_data"), Word("identifier"));
             }
 
+            // 'regions_at'
+            {
+                addSyntax((sender, context) -> {
+                    final Vec vector = findPosition(sender, context, "position");
+                    final List<String> identifiers = identifiers(regionComponent.regionsAt(vector));
+                    sendFeedback(sender, () -> Component.text("regions: " + identifiers));
+                    context.setReturnData(new CommandData().set("regions", identifiers));
+                }, Literal("regions_at"), RelativeVec3("position"));
+            }
+
+            // 'regions_intersecting'
+            {
+                addSyntax((sender, context) -> {
+                    final List<String> identifiers = identifiers(regionComponent.regionsIntersecting(
+                            findPosition(sender, context, "pos1"), findPosition(sender, context, "pos2")));
+                    sendFeedback(sender, () -> Component.text("regions: " + identifiers));
+                    context.setReturnData(new CommandData().set("regions", identifiers));
+                }, Literal("regions_intersecting"), RelativeVec3("pos1"), RelativeVec3("pos2"));
+            }
+
+            // 'nearest'
+            {
+                addSyntax((sender, context) -> {
+                    final Vec vector = findPosition(sender, context, "position");
+                    final RegionComponent.Region region = regionComponent.nearestRegion(vector);
+
+                    CommandData data = new CommandData();
+
+                    data.set("success", region != null);
+                    if (region != null) {
+                        final double distance = Math.sqrt(region.distanceSquared(vector));
+                        data.set("region", region.getIdentifier());
+                        data.set("distance", distance);
+                        sendFeedback(sender, () -> Component.text("nearest: " + region.getIdentifier() + " (" + distance + ")"));
+                    } else {
+                        sendFeedback(sender, () -> Component.text("region not found"));
+                    }
+
+                    context.setReturnData(data);
+                }, Literal("nearest"), RelativeVec3("position"));
+            }
+
+        }
+
+        private static List<String> identifiers(List<RegionComponent.Region> regions) {
+            List<String> identifiers = new ArrayList<>(regions.size());
+            for (RegionComponent.Region region : regions) {
+                identifiers.add(region.getIdentifier());
+            }
+            return identifiers;
         }
     }
 
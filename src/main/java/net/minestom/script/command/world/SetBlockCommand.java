@@ -3,9 +3,9 @@ package net.minestom.script.command.world;
 import net.kyori.adventure.text.Component;
 import net.minestom.script.command.RichCommand;
 import net.minestom.script.component.RegionComponent;
+import net.minestom.script.component.WorldComponent;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.instance.block.Block;
-import net.minestom.server.utils.location.RelativeVec;
 
 import static net.minestom.server.command.builder.arguments.ArgumentType.BlockState;
 import static net.minestom.server.command.builder.arguments.ArgumentType.RelativeVec3;
@@ -15,13 +15,13 @@ public class SetBlockCommand extends RichCommand {
         super("setblock");
 
         final RegionComponent regionComponent = getApi().getRegionHandler();
+        final WorldComponent worldComponent = getApi().getWorldHandler();
 
-        setDefaultExecutor((sender, context) -> sender.sendMessage(Component.text("Usage: /world setblock <pos> <block>")));
+        setDefaultExecutor((sender, context) -> sendFeedback(sender, () -> Component.text("Usage: /world setblock <pos> <block>")));
         addSyntax((sender, context) -> {
-            final Block block = context.get("block");
-            RelativeVec relativeVec = context.get("position");
-            Vec blockPosition = relativeVec.fromSender(sender);
-            processInstances(sender, instance -> instance.setBlock(blockPosition, block));
+            final Block block = findBlock(context, "block");
+            Vec blockPosition = findPosition(sender, context, "position");
+            processInstances(sender, instance -> worldComponent.setBlock(instance, blockPosition, block));
         }, RelativeVec3("position"), BlockState("block"));
     }
 }
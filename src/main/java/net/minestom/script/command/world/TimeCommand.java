@@ -9,7 +9,7 @@ public class TimeCommand extends RichCommand {
         super("time");
 
         setDefaultExecutor((sender, context) ->
-                sender.sendMessage(Component.text("Usage: /time set <day/night>")));
+                sendFeedback(sender, () -> Component.text("Usage: /time set <day/night>")));
 
         var typeArgument = ArgumentType.Word("type").from("set");
         var timeNumberArgument = ArgumentType.Integer("time_value");
@@ -27,14 +27,14 @@ public class TimeCommand extends RichCommand {
 
             long finalTime = time;
             processInstances(sender, instance -> instance.setTime(finalTime));
-            sender.sendMessage(Component.text("Set time to " + time));
+            sendFeedback(sender, () -> Component.text("Set time to " + finalTime));
         }, typeArgument, timeConstantArgument);
 
         addSyntax((sender, context) -> {
             final long time = context.get(timeNumberArgument);
 
             processInstances(sender, instance -> instance.setTime(time));
-            sender.sendMessage(Component.text("Set time to " + time));
+            sendFeedback(sender, () -> Component.text("Set time to " + time));
         }, typeArgument, timeNumberArgument);
     }
 }
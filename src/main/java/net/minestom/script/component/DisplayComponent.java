@@ -0,0 +1,45 @@
+package net.minestom.script.component;
+
+import net.kyori.adventure.audience.Audience;
+import net.kyori.adventure.text.Component;
+import net.minestom.script.command.arguments.ArgumentFlexibleComponent;
+import net.minestom.server.entity.Entity;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Typed access to the player displays, shared by the display commands and the scripts 'display' binding.
+ * <p>
+ * Messages given as string are parsed like the command component arguments, as JSON or MiniMessage.
+ */
+public class DisplayComponent extends ScriptComponent {
+
+    protected DisplayComponent() {
+    }
+
+    public void actionBar(@NotNull Collection<? extends Entity> targets, @NotNull Component component) {
+        for (Entity target : targets) {
+            if (target instanceof Audience audience) {
+                audience.sendActionBar(component);
+            }
+        }
+    }
+
+    public void actionBar(@NotNull Entity target, @NotNull String message) {
+        actionBar(List.of(target), ArgumentFlexibleComponent.deserialize(message));
+    }
+
+    public void message(@NotNull Collection<? extends Entity> targets, @NotNull Component component) {
+        for (Entity target : targets) {
+            if (target instanceof Audience audience) {
+                audience.sendMessage(component);
+            }
+        }
+    }
+
+    public void message(@NotNull Entity target, @NotNull String message) {
+        message(List.of(target), ArgumentFlexibleComponent.deserialize(message));
+    }
+}
@@ -0,0 +1,50 @@
+package net.minestom.script.component;
+
+import net.minestom.script.property.Properties;
+import net.minestom.script.utils.EntityIndex;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.LivingEntity;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Typed access to the entities, shared by the entity commands and the scripts 'entity' binding.
+ */
+public class EntityComponent extends ScriptComponent {
+
+    protected EntityComponent() {
+    }
+
+    /**
+     * Teleports an entity, keeping its view direction if the position does not have one.
+     *
+     * @param entity   the entity to teleport
+     * @param position the destination
+     */
+    public void teleport(@NotNull Entity entity, @NotNull Point position) {
+        final Pos destination = position instanceof Pos pos ? pos :
+                entity.getPosition().withCoord(position);
+        entity.teleport(destination);
+    }
+
+    /**
+     * Gets a live entity.
+     *
+     * @param identifier the entity uuid or the player username
+     * @return the entity property, null if not found
+     */
+    public @Nullable Properties get(@NotNull String identifier) {
+        final Entity entity = EntityIndex.find(identifier);
+        return entity != null ? Properties.fromEntity(entity) : null;
+    }
+
+    public void kill(@NotNull Entity entity) {
+        if (entity instanceof LivingEntity livingEntity) {
+            livingEntity.kill();
+        } else {
+            entity.remove();
+        }
+    }
+}
@@ -6,42 +6,39 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.jglrxavpok.hephaistos.nbt.NBTCompound;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 public class RegionComponent extends ScriptComponent {
 
     private final Map<String, Region> regionMap = new ConcurrentHashMap<>();
+    private final RegionIndex regionIndex = new RegionIndex();
 
     protected RegionComponent() {
         // TODO signals
     }
 
     @Nullable
-    public Region createRegion(String identifier, Point pos1, Point pos2, NBTCompound nbtCompound) {
+    public synchronized Region createRegion(String identifier, Point pos1, Point pos2, NBTCompound nbtCompound) {
         if (regionMap.containsKey(identifier)) {
             return null;
         }
 
-        final double minX = Math.min(pos1.x(), pos2.x());
-        final double minY = Math.min(pos1.y(), pos2.y());
-        final double minZ = Math.min(pos1.z(), pos2.z());
-
-        final double maxX = Math.max(pos1.x(), pos2.x());
-        final double maxY = Math.max(pos1.y(), pos2.y());
-        final double maxZ = Math.max(pos1.z(), pos2.z());
-
-        Region region = new Region(identifier,
-                new Vec(minX, minY, minZ),
-                new Vec(maxX, maxY, maxZ),
-                nbtCompound);
+        Region region = new Region(identifier, min(pos1, pos2), max(pos1, pos2), nbtCompound);
 
         this.regionMap.put(identifier, region);
+        this.regionIndex.add(region);
         return region;
     }
 
-    public boolean deleteRegion(String identifier) {
-        return regionMap.remove(identifier) != null;
+    public synchronized boolean deleteRegion(String identifier) {
+        final Region region = regionMap.remove(identifier);
+        if (region == null) {
+            return false;
+        }
+        this.regionIndex.remove(region);
+        return true;
     }
 
     @Nullable
@@ -49,6 +46,45 @@ public class RegionComponent extends ScriptComponent {
         return regionMap.get(identifier);
     }
 
+    /**
+     * Gets the regions containing a position.
+     *
+     * @param point the position
+     * @return the regions containing the position
+     */
+    public @NotNull List<Region> regionsAt(@NotNull Point point) {
+        return regionIndex.at(point);
+    }
+
+    /**
+     * Gets the regions intersecting a box.
+     *
+     * @param pos1 a corner of the box
+     * @param pos2 the opposite corner of the box
+     * @return the regions sharing at least one position with the box
+     */
+    public @NotNull List<Region> regionsIntersecting(@NotNull Point pos1, @NotNull Point pos2) {
+        return regionIndex.intersecting(min(pos1, pos2), max(pos1, pos2));
+    }
+
+    /**
+     * Gets the region closest to a position.
+     *
+     * @param point the position
+     * @return the nearest region, one containing the position if any, null if there is no region
+     */
+    public @Nullable Region nearestRegion(@NotNull Point point) {
+        return regionIndex.nearest(point);
+    }
+
+    private static @NotNull Vec min(@NotNull Point pos1, @NotNull Point pos2) {
+        return new Vec(Math.min(pos1.x(), pos2.x()), Math.min(pos1.y(), pos2.y()), Math.min(pos1.z(), pos2.z()));
+    }
+
+    private static @NotNull Vec max(@NotNull Point pos1, @NotNull Point pos2) {
+        return new Vec(Math.max(pos1.x(), pos2.x()), Math.max(pos1.y(), pos2.y()), Math.max(pos1.z(), pos2.z()));
+    }
+
     public static class Region {
         private final String identifier;
         private final Point minPos, maxPos;
@@ -70,6 +106,32 @@ public class RegionComponent extends ScriptComponent {
                     z >= minPos.z() && z <= maxPos.z();
         }
 
+        /**
+         * Gets if this region shares at least one position with a box.
+         *
+         * @param min the box minimum corner
+         * @param max the box maximum corner
+         * @return true if the region intersects the box
+         */
+        public boolean intersects(@NotNull Point min, @NotNull Point max) {
+            return min.x() <= maxPos.x() && max.x() >= minPos.x() &&
+                    min.y() <= maxPos.y() && max.y() >= minPos.y() &&
+                    min.z() <= maxPos.z() && max.z() >= minPos.z();
+        }
+
+        /**
+         * Gets the squared distance between a position and the closest position of this region.
+         *
+         * @param vector the position
+         * @return the squared distance, 0 if the position is inside
+         */
+        public double distanceSquared(@NotNull Point vector) {
+            final double dx = Math.max(0, Math.max(minPos.x() - vector.x(), vector.x() - maxPos.x()));
+            final double dy = Math.max(0, Math.max(minPos.y() - vector.y(), vector.y() - maxPos.y()));
+            final double dz = Math.max(0, Math.max(minPos.z() - vector.z(), vector.z() - maxPos.z()));
+            return dx * dx + dy * dy + dz * dz;
+        }
+
         public String getIdentifier() {
             return identifier;
         }
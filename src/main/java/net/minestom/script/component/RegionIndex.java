@@ -0,0 +1,192 @@
+package net.minestom.script.component;
+
+import net.minestom.script.component.RegionComponent.Region;
+import net.minestom.server.coordinate.Point;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongConsumer;
+
+/**
+ * Grid of chunk columns referencing the regions overlapping them.
+ * <p>
+ * Regions covering too many columns are kept aside and always tested, so that a few
+ * huge regions do not fill the grid. Buckets are copy-on-write, queries do not lock.
+ */
+final class RegionIndex {
+
+    // Regions covering more columns are not stored in the grid
+    private static final int MAX_CELLS = 256;
+    private static final Region[] EMPTY = new Region[0];
+
+    private final Map<Long, Region[]> cells = new ConcurrentHashMap<>();
+    private volatile Region[] large = EMPTY;
+    private volatile Region[] all = EMPTY;
+
+    synchronized void add(@NotNull Region region) {
+        this.all = append(all, region);
+        if (isLarge(region)) {
+            this.large = append(large, region);
+            return;
+        }
+        forEachCell(region, key -> cells.merge(key, new Region[]{region}, (current, added) -> append(current, region)));
+    }
+
+    synchronized void remove(@NotNull Region region) {
+        this.all = without(all, region);
+        if (isLarge(region)) {
+            this.large = without(large, region);
+            return;
+        }
+        forEachCell(region, key -> cells.computeIfPresent(key, (k, current) -> {
+            final Region[] updated = without(current, region);
+            return updated.length != 0 ? updated : null;
+        }));
+    }
+
+    @NotNull List<Region> at(@NotNull Point point) {
+        List<Region> result = new ArrayList<>();
+        final Region[] bucket = cells.get(key(chunk(point.x()), chunk(point.z())));
+        if (bucket != null) {
+            for (Region region : bucket) {
+                if (region.isInside(point)) result.add(region);
+            }
+        }
+        for (Region region : large) {
+            if (region.isInside(point)) result.add(region);
+        }
+        return result;
+    }
+
+    @NotNull List<Region> intersecting(@NotNull Point min, @NotNull Point max) {
+        List<Region> result = new ArrayList<>();
+        final int minX = chunk(min.x()), minZ = chunk(min.z());
+        final int maxX = chunk(max.x()), maxZ = chunk(max.z());
+        final Region[] all = this.all;
+        if ((long) (maxX - minX + 1) * (maxZ - minZ + 1) > all.length) {
+            // Cheaper to test every region than to visit the columns
+            for (Region region : all) {
+                if (region.intersects(min, max)) result.add(region);
+            }
+            return result;
+        }
+        for (int x = minX; x <= maxX; x++) {
+            for (int z = minZ; z <= maxZ; z++) {
+                final Region[] bucket = cells.get(key(x, z));
+                if (bucket == null) continue;
+                for (Region region : bucket) {
+                    // Only reported from the first shared column, a region can overlap many of them
+                    if (x == Math.max(minX, chunk(region.getMinPos().x())) &&
+                            z == Math.max(minZ, chunk(region.getMinPos().z())) &&
+                            region.intersects(min, max)) {
+                        result.add(region);
+                    }
+                }
+            }
+        }
+        for (Region region : large) {
+            if (region.intersects(min, max)) result.add(region);
+        }
+        return result;
+    }
+
+    @Nullable Region nearest(@NotNull Point point) {
+        final Region[] all = this.all;
+        if (all.length == 0) return null;
+        Region nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (Region region : large) {
+            final double distance = region.distanceSquared(point);
+            if (distance < nearestDistance) {
+                nearest = region;
+                nearestDistance = distance;
+            }
+        }
+        // Visit the columns in rings around the point
+        final int centerX = chunk(point.x()), centerZ = chunk(point.z());
+        for (int ring = 0; ; ring++) {
+            // Regions found from this ring are at least (ring - 1) columns away horizontally
+            final double bound = Math.max(0, ring - 1) * 16.0;
+            if (bound * bound >= nearestDistance) break;
+            if ((long) (2 * ring + 1) * (2 * ring + 1) > 4L * all.length) {
+                // Sparse regions, cheaper to test all of them
+                return nearestOf(all, point);
+            }
+            for (int x = centerX - ring; x <= centerX + ring; x++) {
+                final boolean edge = x == centerX - ring || x == centerX + ring;
+                for (int z = centerZ - ring; z <= centerZ + ring; z += edge ? 1 : 2 * ring) {
+                    final Region[] bucket = cells.get(key(x, z));
+                    if (bucket != null) {
+                        for (Region region : bucket) {
+                            final double distance = region.distanceSquared(point);
+                            if (distance < nearestDistance) {
+                                nearest = region;
+                                nearestDistance = distance;
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return nearest;
+    }
+
+    private static @Nullable Region nearestOf(@NotNull Region[] regions, @NotNull Point point) {
+        Region nearest = null;
+        double nearestDistance = Double.MAX_VALUE;
+        for (Region region : regions) {
+            final double distance = region.distanceSquared(point);
+            if (distance < nearestDistance) {
+                nearest = region;
+                nearestDistance = distance;
+            }
+        }
+        return nearest;
+    }
+
+    private static boolean isLarge(@NotNull Region region) {
+        final long width = chunk(region.getMaxPos().x()) - chunk(region.getMinPos().x()) + 1L;
+        final long depth = chunk(region.getMaxPos().z()) - chunk(region.getMinPos().z()) + 1L;
+        return width * depth > MAX_CELLS;
+    }
+
+    private static void forEachCell(@NotNull Region region, @NotNull LongConsumer consumer) {
+        final int maxX = chunk(region.getMaxPos().x()), maxZ = chunk(region.getMaxPos().z());
+        for (int x = chunk(region.getMinPos().x()); x <= maxX; x++) {
+            for (int z = chunk(region.getMinPos().z()); z <= maxZ; z++) {
+                consumer.accept(key(x, z));
+            }
+        }
+    }
+
+    private static int chunk(double coordinate) {
+        return (int) Math.floor(coordinate) >> 4;
+    }
+
+    private static long key(int chunkX, int chunkZ) {
+        return ((long) chunkX << 32) | (chunkZ & 0xFFFFFFFFL);
+    }
+
+    private static @NotNull Region[] append(@NotNull Region[] regions, @NotNull Region region) {
+        Region[] result = Arrays.copyOf(regions, regions.length + 1);
+        result[regions.length] = region;
+        return result;
+    }
+
+    private static @NotNull Region[] without(@NotNull Region[] regions, @NotNull Region region) {
+        for (int i = 0; i < regions.length; i++) {
+            if (regions[i] != region) continue;
+            if (regions.length == 1) return EMPTY;
+            Region[] result = new Region[regions.length - 1];
+            System.arraycopy(regions, 0, result, 0, i);
+            System.arraycopy(regions, i + 1, result, i, regions.length - i - 1);
+            return result;
+        }
+        return regions;
+    }
+}
@@ -7,6 +7,9 @@ public class ScriptAPI {
 
     private final GlobalExecutor globalExecutor = new GlobalExecutor();
     private final RegionComponent regionComponent = new RegionComponent();
+    private final WorldComponent worldComponent = new WorldComponent();
+    private final EntityComponent entityComponent = new EntityComponent();
+    private final DisplayComponent displayComponent = new DisplayComponent();
 
     @NotNull
     public GlobalExecutor getExecutor() {
@@ -17,4 +20,19 @@ public class ScriptAPI {
     public RegionComponent getRegionHandler() {
         return regionComponent;
     }
+
+    @NotNull
+    public WorldComponent getWorldHandler() {
+        return worldComponent;
+    }
+
+    @NotNull
+    public EntityComponent getEntityHandler() {
+        return entityComponent;
+    }
+
+    @NotNull
+    public DisplayComponent getDisplayHandler() {
+        return displayComponent;
+    }
 }
@@ -0,0 +1,66 @@
+package net.minestom.script.component;
+
+import net.minestom.script.ScriptManager;
+import net.minestom.script.property.BlockProperty;
+import net.minestom.server.command.CommandSender;
+import net.minestom.server.command.ServerSender;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Collection;
+
+/**
+ * Typed access to the worlds, shared by the world commands and the scripts 'world' binding.
+ */
+public class WorldComponent extends ScriptComponent {
+
+    private static final CommandSender SERVER_SENDER = new ServerSender();
+
+    protected WorldComponent() {
+    }
+
+    public void setBlock(@NotNull Instance instance, @NotNull Point position, @NotNull Block block) {
+        instance.setBlock(position, block);
+    }
+
+    public @NotNull Block getBlock(@NotNull Instance instance, @NotNull Point position) {
+        return instance.getBlock(position);
+    }
+
+    /**
+     * Sets a block in the worlds available to scripts.
+     *
+     * @param position the block position
+     * @param block    the block to place
+     */
+    public void setBlock(@NotNull Point position, @NotNull Block block) {
+        for (Instance instance : getInstances()) {
+            setBlock(instance, position, block);
+        }
+    }
+
+    public void setBlock(int x, int y, int z, @NotNull Block block) {
+        setBlock(new Vec(x, y, z), block);
+    }
+
+    /**
+     * Gets a block from the first world available to scripts.
+     *
+     * @param position the block position
+     * @return the block, null if there is no world
+     */
+    public @Nullable BlockProperty getBlock(@NotNull Point position) {
+        for (Instance instance : getInstances()) {
+            return new BlockProperty(getBlock(instance, position), position);
+        }
+        return null;
+    }
+
+    private static @NotNull Collection<Instance> getInstances() {
+        return ScriptManager.getInstanceSupplier().apply(SERVER_SENDER);
+    }
+}
@@ -1,17 +1,33 @@
 package net.minestom.script.property;
 
 import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class BlockPositionProperty extends Properties {
+public class BlockPositionProperty extends Properties implements HostProperty {
+
+    private final Point blockPosition;
 
     public BlockPositionProperty(@NotNull Point blockPosition) {
+        this.blockPosition = blockPosition;
         Properties.applyExtensions(BlockPositionProperty.class, blockPosition, this);
         putMember("x", blockPosition.blockX());
         putMember("y", blockPosition.blockY());
         putMember("z", blockPosition.blockZ());
     }
 
+    @Override
+    public @Nullable Point getHostObject() {
+        if (!isModified()) return blockPosition;
+        // Coordinates changed by the script
+        final double x = getNumberMember("x");
+        final double y = getNumberMember("y");
+        final double z = getNumberMember("z");
+        if (Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z)) return null;
+        return new Vec(x, y, z);
+    }
+
     @Override
     public String toString() {
         // Command-friendly conversion to be used as a position argument
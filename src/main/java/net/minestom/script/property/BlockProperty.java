@@ -4,7 +4,7 @@ import net.minestom.server.coordinate.Point;
 import net.minestom.server.instance.block.Block;
 import org.jetbrains.annotations.NotNull;
 
-public class BlockProperty extends Properties {
+public class BlockProperty extends Properties implements HostProperty {
 
     private final Block block;
 
@@ -18,6 +18,11 @@ public class BlockProperty extends Properties {
         putMember("nbt", block.nbt());
     }
 
+    @Override
+    public @NotNull Block getHostObject() {
+        return block;
+    }
+
     @Override
     public String toString() {
         return block.toString();
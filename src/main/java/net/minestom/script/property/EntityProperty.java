@@ -1,21 +1,41 @@
 package net.minestom.script.property;
 
+import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
+import java.lang.ref.WeakReference;
 import java.util.UUID;
 
-public class EntityProperty extends Properties {
+public class EntityProperty extends Properties implements HostProperty {
 
     private final UUID uuid;
+    // Weak, scripts may keep the property after the entity removal
+    private final WeakReference<Entity> entity;
 
     public EntityProperty(@NotNull Entity entity) {
         this.uuid = entity.getUuid();
+        this.entity = new WeakReference<>(entity);
         Properties.applyExtensions(EntityProperty.class, entity, this);
-        putMember("uuid", entity.getUuid().toString());
-        putMember("type", entity.getEntityType().toString());
-        putMember("position", new PositionProperty(entity.getPosition()));
-        putMember("world", new WorldProperty(entity.getInstance()));
+        putMember("uuid", uuid.toString());
+        // Captured now, the entity may have moved when the member is accessed
+        final EntityType entityType = entity.getEntityType();
+        final Pos position = entity.getPosition();
+        final Instance instance = entity.getInstance();
+        putLazyMember("type", entityType::toString);
+        putLazyMember("position", () -> new PositionProperty(position));
+        if (instance != null) {
+            putLazyMember("world", () -> new WorldProperty(instance));
+        }
+    }
+
+    @Override
+    public @Nullable Entity getHostObject() {
+        final Entity entity = this.entity.get();
+        return entity != null && !entity.isRemoved() ? entity : null;
     }
 
     @Override
@@ -0,0 +1,30 @@
+package net.minestom.script.property;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Property backed by a server object, which is given directly to commands
+ * instead of being converted to a string and parsed again.
+ *
+ * @see net.minestom.script.utils.HostArguments
+ */
+public interface HostProperty {
+
+    /**
+     * Gets the server object represented by this property.
+     *
+     * @return the server object, null if not available anymore
+     */
+    @Nullable Object getHostObject();
+
+    /**
+     * Gets the command argument representing this property, the key of its host object in
+     * {@link net.minestom.script.utils.HostArguments}.
+     *
+     * @return the argument text, {@link #toString()} by default
+     */
+    default @NotNull String toArgument() {
+        return toString();
+    }
+}
@@ -3,7 +3,7 @@ package net.minestom.script.property;
 import net.minestom.server.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
-public class ItemProperty extends Properties {
+public class ItemProperty extends Properties implements HostProperty {
 
     private final ItemStack itemStack;
 
@@ -14,6 +14,11 @@ public class ItemProperty extends Properties {
         putMember("amount", itemStack.getAmount());
     }
 
+    @Override
+    public @NotNull ItemStack getHostObject() {
+        return itemStack;
+    }
+
     @Override
     public String toString() {
         final String namespace = itemStack.getMaterial().name();
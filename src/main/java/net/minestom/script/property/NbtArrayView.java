@@ -0,0 +1,52 @@
+package net.minestom.script.property;
+
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.jetbrains.annotations.NotNull;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.jglrxavpok.hephaistos.nbt.NBTByteArray;
+import org.jglrxavpok.hephaistos.nbt.NBTIntArray;
+import org.jglrxavpok.hephaistos.nbt.NBTLongArray;
+
+/**
+ * View over a primitive NBT array, elements are read from the tag without copying it.
+ */
+public record NbtArrayView(@NotNull NBT nbt) implements NbtView, ProxyArray {
+
+    public NbtArrayView {
+        if (!(nbt instanceof NBTByteArray) && !(nbt instanceof NBTIntArray) && !(nbt instanceof NBTLongArray)) {
+            throw new IllegalArgumentException("Type " + nbt.getClass() + " is not a primitive nbt array");
+        }
+    }
+
+    @Override
+    public Object get(long index) {
+        final int i = Math.toIntExact(index);
+        if (nbt instanceof NBTByteArray byteArray) {
+            return byteArray.getValue().get(i);
+        } else if (nbt instanceof NBTIntArray intArray) {
+            return intArray.getValue().get(i);
+        }
+        return ((NBTLongArray) nbt).getValue().get(i);
+    }
+
+    @Override
+    public void set(long index, Value value) {
+        throw new UnsupportedOperationException("NBT views are read-only");
+    }
+
+    @Override
+    public long getSize() {
+        if (nbt instanceof NBTByteArray byteArray) {
+            return byteArray.getValue().getSize();
+        } else if (nbt instanceof NBTIntArray intArray) {
+            return intArray.getValue().getSize();
+        }
+        return ((NBTLongArray) nbt).getValue().getSize();
+    }
+
+    @Override
+    public String toString() {
+        return nbt.toSNBT();
+    }
+}
@@ -0,0 +1,44 @@
+package net.minestom.script.property;
+
+import net.minestom.script.utils.NbtConversionUtils;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyObject;
+import org.jetbrains.annotations.NotNull;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+import org.jglrxavpok.hephaistos.nbt.NBTCompound;
+
+import java.util.function.Supplier;
+
+public record NbtCompoundView(@NotNull NBTCompound nbt) implements NbtView, ProxyObject {
+
+    private static final String TO_STRING_MEMBER = "toString";
+
+    @Override
+    public Object getMember(String key) {
+        final NBT value = nbt.get(key);
+        if (value == null) {
+            return key.equals(TO_STRING_MEMBER) ? (Supplier<String>) this::toString : null;
+        }
+        return NbtConversionUtils.toValue(value);
+    }
+
+    @Override
+    public Object getMemberKeys() {
+        return nbt.getKeys().toArray(new String[0]);
+    }
+
+    @Override
+    public boolean hasMember(String key) {
+        return nbt.get(key) != null || key.equals(TO_STRING_MEMBER);
+    }
+
+    @Override
+    public void putMember(String key, Value value) {
+        throw new UnsupportedOperationException("NBT views are read-only");
+    }
+
+    @Override
+    public String toString() {
+        return nbt.toSNBT();
+    }
+}
@@ -0,0 +1,30 @@
+package net.minestom.script.property;
+
+import net.minestom.script.utils.NbtConversionUtils;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.jetbrains.annotations.NotNull;
+import org.jglrxavpok.hephaistos.nbt.NBTList;
+
+public record NbtListView(@NotNull NBTList<?> nbt) implements NbtView, ProxyArray {
+
+    @Override
+    public Object get(long index) {
+        return NbtConversionUtils.toValue(nbt.get(Math.toIntExact(index)));
+    }
+
+    @Override
+    public void set(long index, Value value) {
+        throw new UnsupportedOperationException("NBT views are read-only");
+    }
+
+    @Override
+    public long getSize() {
+        return nbt.getSize();
+    }
+
+    @Override
+    public String toString() {
+        return nbt.toSNBT();
+    }
+}
@@ -0,0 +1,14 @@
+package net.minestom.script.property;
+
+import org.jetbrains.annotations.NotNull;
+import org.jglrxavpok.hephaistos.nbt.NBT;
+
+/**
+ * Read-only view over a NBT tag, members are converted only when accessed by a script.
+ * <p>
+ * Views passed back to the server are unwrapped to the original tag.
+ */
+public sealed interface NbtView permits NbtArrayView, NbtCompoundView, NbtListView {
+
+    @NotNull NBT nbt();
+}
@@ -1,6 +1,7 @@
 package net.minestom.script.property;
 
 import net.minestom.server.entity.Player;
+import net.minestom.server.item.ItemStack;
 import org.jetbrains.annotations.NotNull;
 
 public class PlayerProperty extends EntityProperty {
@@ -9,6 +10,7 @@ public class PlayerProperty extends EntityProperty {
         super(player);
         Properties.applyExtensions(PlayerProperty.class, player, this);
         putMember("username", player.getUsername());
-        putMember("helditem", new ItemProperty(player.getInventory().getItemStack(player.getHeldSlot())));
+        final ItemStack heldItem = player.getInventory().getItemStack(player.getHeldSlot());
+        putLazyMember("helditem", () -> new ItemProperty(heldItem));
     }
 }
@@ -2,8 +2,9 @@ package net.minestom.script.property;
 
 import net.minestom.server.coordinate.Pos;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 
-public class PositionProperty extends Properties {
+public class PositionProperty extends Properties implements HostProperty {
 
     private final Pos position;
 
@@ -19,8 +20,34 @@ public class PositionProperty extends Properties {
         putMember("pitch", position.pitch());
     }
 
+    @Override
+    public @Nullable Pos getHostObject() {
+        if (!isModified()) return position;
+        // Coordinates changed by the script
+        final double x = getNumberMember("x");
+        final double y = getNumberMember("y");
+        final double z = getNumberMember("z");
+        final double yaw = getNumberMember("yaw");
+        final double pitch = getNumberMember("pitch");
+        if (Double.isNaN(x) || Double.isNaN(y) || Double.isNaN(z) ||
+                Double.isNaN(yaw) || Double.isNaN(pitch)) return null;
+        return new Pos(x, y, z, (float) yaw, (float) pitch);
+    }
+
+    @Override
+    public @NotNull String toArgument() {
+        // Command-friendly conversion to be used as a position argument
+        if (!isModified()) {
+            return position.x() + " " + position.y() + " " + position.z();
+        }
+        return getMember("x") + " " +
+                getMember("y") + " " +
+                getMember("z");
+    }
+
     @Override
     public String toString() {
-        return position.toString();
+        final Pos position = getHostObject();
+        return position != null ? position.toString() : this.position.toString();
     }
 }
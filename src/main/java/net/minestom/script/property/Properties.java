@@ -14,10 +14,12 @@ import org.graalvm.polyglot.proxy.ProxyObject;
 import org.jetbrains.annotations.NotNull;
 import org.jglrxavpok.hephaistos.nbt.NBT;
 
-import java.util.ArrayList;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.BiConsumer;
 import java.util.function.Supplier;
 
@@ -26,15 +28,26 @@ import java.util.function.Supplier;
  */
 public class Properties implements ProxyObject {
 
-    private static final Map<Class<?>, List<BiConsumer<Object, Properties>>> EXTENSIONS = new ConcurrentHashMap<>();
+    // Immutable snapshot replaced on registration, one composed consumer per type
+    private static volatile Map<Class<?>, BiConsumer<Object, Properties>> extensions = Map.of();
 
     // Logic from https://github.com/oracle/graaljs/issues/281
     private static final String TO_STRING_MEMBER = "toString";
     public static final String TYPE_MEMBER = "_type";
 
-    private final Map<String, Value> properties = new ConcurrentHashMap<>();
+    private static final VarHandle SLOT = MethodHandles.arrayElementVarHandle(Object[].class);
+
+    // Values are either a Value or a LazyMember waiting to be resolved, indexed by the shape slots.
+    // Writers update the values before the shape, so a slot read from the shape is always in bounds
+    private volatile PropertyShape shape;
+    private volatile Object[] values;
+    // Set once a script writes a member, the members may then differ from the host object
+    private volatile boolean modified;
 
     public Properties() {
+        final PropertyShape root = PropertyShape.root(getClass());
+        this.values = new Object[root.expectedSize()];
+        this.shape = root;
         putMember(TYPE_MEMBER, getClass().getSimpleName());
     }
 
@@ -43,12 +56,18 @@ public class Properties implements ProxyObject {
         if (key.equals(TO_STRING_MEMBER)) {
             return (Supplier<String>) this::toString;
         }
-        return properties.get(key);
+        final int slot = shape.slot(key);
+        if (slot == -1) return null;
+        final Object member = SLOT.getVolatile(values, slot);
+        if (member instanceof LazyMember lazyMember) {
+            return resolve(slot, lazyMember);
+        }
+        return member;
     }
 
     @Override
     public Object getMemberKeys() {
-        return properties.keySet().toArray(new String[0]);
+        return shape.memberKeys();
     }
 
     @Override
@@ -56,31 +75,94 @@ public class Properties implements ProxyObject {
         if (key.equals(TO_STRING_MEMBER)) {
             return true;
         }
-        return properties.containsKey(key);
+        return shape.slot(key) != -1;
     }
 
     @Override
     public void putMember(String key, Value value) {
-        this.properties.put(key, value);
+        put(key, value);
+        this.modified = true;
     }
 
     public void putMember(String key, Object object) {
-        putMember(key, toValue(object));
+        put(key, toValue(object));
+    }
+
+    /**
+     * Gets if a script changed a member of this property since its creation.
+     *
+     * @return true if a member has been written by a script
+     */
+    public boolean isModified() {
+        return modified;
+    }
+
+    /**
+     * Gets a numeric member.
+     *
+     * @param key the member name
+     * @return the member value, {@link Double#NaN} if missing or not a number
+     */
+    protected double getNumberMember(@NotNull String key) {
+        final Object member = getMember(key);
+        return member instanceof Value value && value.fitsInDouble() ? value.asDouble() : Double.NaN;
+    }
+
+    /**
+     * Adds a member computed the first time a script accesses it, the result is then memoized.
+     * <p>
+     * The supplier may be called from any thread and should only capture immutable data.
+     *
+     * @param key      the member name
+     * @param supplier the member value supplier, converted like {@link #putMember(String, Object)}
+     */
+    public void putLazyMember(@NotNull String key, @NotNull Supplier<?> supplier) {
+        put(key, new LazyMember(supplier));
     }
 
-    public static synchronized <T> void applyExtensions(@NotNull Class<?> type, @NotNull T value, @NotNull Properties properties) {
-        var consumers = EXTENSIONS.get(type);
-        if (consumers == null || consumers.isEmpty()) {
+    private synchronized void put(@NotNull String key, @NotNull Object member) {
+        final PropertyShape shape = this.shape;
+        int slot = shape.slot(key);
+        if (slot != -1) {
+            SLOT.setVolatile(values, slot, member);
             return;
         }
-        consumers.forEach(consumer -> consumer.accept(value, properties));
+        slot = shape.size();
+        Object[] values = this.values;
+        if (slot >= values.length) {
+            values = Arrays.copyOf(values, Math.max(slot + 1, values.length * 2));
+        }
+        SLOT.setVolatile(values, slot, member);
+        this.values = values;
+        // Dictionary shapes expose the key immediately, after its value
+        this.shape = shape.with(key);
+    }
+
+    private @NotNull Value resolve(int slot, @NotNull LazyMember lazyMember) {
+        final Value value = toValue(lazyMember.supplier().get());
+        synchronized (this) {
+            final Object member = SLOT.getVolatile(values, slot);
+            if (member != lazyMember) {
+                // Resolved concurrently or overridden
+                return member instanceof LazyMember other ? resolve(slot, other) : (Value) member;
+            }
+            SLOT.setVolatile(values, slot, value);
+        }
+        return value;
+    }
+
+    public static <T> void applyExtensions(@NotNull Class<?> type, @NotNull T value, @NotNull Properties properties) {
+        final BiConsumer<Object, Properties> consumer = extensions.get(type);
+        if (consumer != null) {
+            consumer.accept(value, properties);
+        }
     }
 
     public static synchronized <T> void registerExtension(@NotNull Class<?> type, @NotNull Class<T> valueClass,
                                                           @NotNull BiConsumer<T, Properties> consumer) {
-        var consumers = EXTENSIONS.computeIfAbsent(type,
-                aClass -> new ArrayList<>());
-        consumers.add((BiConsumer<Object, Properties>) consumer);
+        Map<Class<?>, BiConsumer<Object, Properties>> extensions = new HashMap<>(Properties.extensions);
+        extensions.merge(type, (BiConsumer<Object, Properties>) consumer, BiConsumer::andThen);
+        Properties.extensions = Map.copyOf(extensions);
     }
 
     public static @NotNull Properties fromEntity(@NotNull Entity entity) {
@@ -90,6 +172,9 @@ public class Properties implements ProxyObject {
         return new EntityProperty(entity);
     }
 
+    private record LazyMember(@NotNull Supplier<?> supplier) {
+    }
+
     private static @NotNull Value toValue(@NotNull Object object) {
         Value value = null;
         if (object instanceof NBT) {
@@ -0,0 +1,209 @@
+package net.minestom.script.property;
+
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Key to slot layout of a {@link Properties}.
+ * <p>
+ * Shapes start from an empty root per property class and transition to a new shape for every added key,
+ * instances created the same way therefore share the same shape and only store their values.
+ * <p>
+ * Shapes growing too wide or branching into too many keys stop being shared: the instance switches
+ * to its own dictionary shape, grown in place, so that scripts using properties as maps do not grow
+ * the shared tree forever.
+ */
+abstract sealed class PropertyShape {
+
+    // Limits of the shared shapes, see Shared#with(String)
+    static final int MAX_TRANSITIONS = 16;
+    static final int MAX_WIDTH = 64;
+
+    private static final ClassValue<Shared> ROOTS = new ClassValue<>() {
+        @Override
+        protected Shared computeValue(Class<?> type) {
+            return new Shared(null, new String[0]);
+        }
+    };
+
+    final Shared root;
+
+    private PropertyShape(Shared root) {
+        this.root = root != null ? root : (Shared) this;
+    }
+
+    static @NotNull PropertyShape root(@NotNull Class<? extends Properties> type) {
+        return ROOTS.get(type);
+    }
+
+    abstract int slot(@NotNull String key);
+
+    /**
+     * Gets the number of keys, which is also the slot of the next added key.
+     *
+     * @return the number of keys
+     */
+    abstract int size();
+
+    /**
+     * Gets the keys of this shape as a read-only array.
+     *
+     * @return the keys ordered by slot
+     */
+    abstract @NotNull ProxyArray memberKeys();
+
+    /**
+     * Gets the shape with an additional key, in the slot {@link #size()}.
+     * <p>
+     * The value of the new slot must be published before calling this method,
+     * dictionary shapes make the key visible immediately.
+     *
+     * @param key the key to add, not part of this shape
+     * @return the shape with the key, this shape if it is a dictionary
+     */
+    abstract @NotNull PropertyShape with(@NotNull String key);
+
+    boolean isDictionary() {
+        return this instanceof Dictionary;
+    }
+
+    int expectedSize() {
+        return root.expectedSize;
+    }
+
+    /**
+     * Immutable shape shared by all the instances having the same keys.
+     */
+    static final class Shared extends PropertyShape {
+        private final String[] keys;
+        private final Map<String, Integer> slots;
+        private final ProxyArray memberKeys;
+        private final Map<String, Shared> transitions = new ConcurrentHashMap<>();
+        // Largest shared shape reached from this root, used to size new instances
+        private volatile int expectedSize;
+
+        private Shared(Shared root, @NotNull String[] keys) {
+            super(root);
+            this.keys = keys;
+            Map<String, Integer> slots = new HashMap<>(keys.length * 2);
+            for (int i = 0; i < keys.length; i++) {
+                slots.put(keys[i], i);
+            }
+            this.slots = slots;
+            this.memberKeys = new MemberKeys(keys, keys.length);
+        }
+
+        @Override
+        int slot(@NotNull String key) {
+            final Integer slot = slots.get(key);
+            return slot != null ? slot : -1;
+        }
+
+        @Override
+        int size() {
+            return keys.length;
+        }
+
+        @Override
+        @NotNull ProxyArray memberKeys() {
+            return memberKeys;
+        }
+
+        @Override
+        @NotNull PropertyShape with(@NotNull String key) {
+            final Shared shape = transitions.get(key);
+            if (shape != null) return shape;
+            if (keys.length + 1 > MAX_WIDTH || transitions.size() >= MAX_TRANSITIONS) {
+                // Not cached, owned and forgotten with the instance using it
+                Dictionary dictionary = new Dictionary(root, keys);
+                dictionary.add(key);
+                return dictionary;
+            }
+            String[] keys = Arrays.copyOf(this.keys, this.keys.length + 1);
+            keys[this.keys.length] = key;
+            final Shared next = transitions.computeIfAbsent(key, k -> new Shared(root, keys));
+            if (keys.length > root.expectedSize) {
+                root.expectedSize = keys.length;
+            }
+            return next;
+        }
+    }
+
+    /**
+     * Mutable shape owned by a single instance, only modified by the instance writer.
+     */
+    static final class Dictionary extends PropertyShape {
+        private final Map<String, Integer> slots = new ConcurrentHashMap<>();
+        // Written before the size, readers read the size first
+        private volatile String[] keys;
+        private volatile int size;
+
+        private Dictionary(Shared root, @NotNull String[] keys) {
+            super(root);
+            this.keys = Arrays.copyOf(keys, Math.max(keys.length * 2, 8));
+            for (int i = 0; i < keys.length; i++) {
+                slots.put(keys[i], i);
+            }
+            this.size = keys.length;
+        }
+
+        @Override
+        int slot(@NotNull String key) {
+            final Integer slot = slots.get(key);
+            return slot != null ? slot : -1;
+        }
+
+        @Override
+        int size() {
+            return size;
+        }
+
+        @Override
+        @NotNull ProxyArray memberKeys() {
+            final int size = this.size;
+            return new MemberKeys(keys, size);
+        }
+
+        @Override
+        @NotNull PropertyShape with(@NotNull String key) {
+            add(key);
+            return this;
+        }
+
+        private void add(@NotNull String key) {
+            final int slot = size;
+            String[] keys = this.keys;
+            if (slot == keys.length) {
+                keys = Arrays.copyOf(keys, keys.length * 2);
+            }
+            keys[slot] = key;
+            this.keys = keys;
+            this.size = slot + 1;
+            slots.put(key, slot);
+        }
+    }
+
+    private record MemberKeys(@NotNull String[] keys, int size) implements ProxyArray {
+        @Override
+        public Object get(long index) {
+            Arrays.checkIndex(Math.toIntExact(index), size);
+            return keys[(int) index];
+        }
+
+        @Override
+        public void set(long index, Value value) {
+            throw new UnsupportedOperationException("Member keys are read-only");
+        }
+
+        @Override
+        public long getSize() {
+            return size;
+        }
+    }
+}
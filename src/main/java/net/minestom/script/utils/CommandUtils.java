@@ -1,42 +1,145 @@
 package net.minestom.script.utils;
 
+import net.minestom.script.ScriptManager;
+import net.minestom.script.command.RichCommand;
 import net.minestom.script.property.Properties;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.command.CommandManager;
+import net.minestom.server.command.builder.Command;
 import net.minestom.server.command.builder.CommandData;
 import net.minestom.server.command.builder.CommandResult;
+import net.minestom.server.command.builder.CommandSyntax;
+import net.minestom.server.command.builder.condition.CommandCondition;
+import net.minestom.server.entity.Player;
 import net.minestom.server.network.ConnectionManager;
+import net.minestom.server.utils.PacketUtils;
 import org.graalvm.polyglot.proxy.ProxyObject;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+
 public class CommandUtils {
 
     private static final CommandManager COMMAND_MANAGER = MinecraftServer.getCommandManager();
     private static final ConnectionManager CONNECTION_MANAGER = MinecraftServer.getConnectionManager();
+    private static final AtomicBoolean UPDATE_PENDING = new AtomicBoolean();
+    private static final ThreadLocal<Boolean> SILENT = ThreadLocal.withInitial(() -> false);
 
+    /**
+     * Schedules the command tree to be sent to all the players.
+     * <p>
+     * Updates requested during the same tick are coalesced into a single one.
+     */
     public static void updateCommands() {
-        CONNECTION_MANAGER.getOnlinePlayers().forEach(player -> {
-            final var playerConnection = player.getPlayerConnection();
-            final var commandPacket = COMMAND_MANAGER.createDeclareCommandsPacket(player);
-            playerConnection.sendPacket(commandPacket);
+        if (UPDATE_PENDING.compareAndSet(false, true)) {
+            MinecraftServer.getSchedulerManager().buildTask(CommandUtils::flushCommands).schedule();
+        }
+    }
+
+    private static void flushCommands() {
+        // Updates requested from now on need another flush
+        UPDATE_PENDING.set(false);
+        if (!isPermissionOnlyTree()) {
+            // Some commands depend on the player, each one needs its own tree
+            for (Player player : CONNECTION_MANAGER.getOnlinePlayers()) {
+                player.getPlayerConnection().sendPacket(COMMAND_MANAGER.createDeclareCommandsPacket(player));
+            }
+            return;
+        }
+        // Players sharing the same permission receive the same tree, created and encoded once per group
+        Map<Boolean, List<Player>> groups = new HashMap<>(2);
+        for (Player player : CONNECTION_MANAGER.getOnlinePlayers()) {
+            final boolean permission = ScriptManager.hasCommandPermission(player);
+            groups.computeIfAbsent(permission, p -> new ArrayList<>()).add(player);
+        }
+        groups.values().forEach(players -> {
+            final var commandPacket = COMMAND_MANAGER.createDeclareCommandsPacket(players.get(0));
+            PacketUtils.sendGroupedPacket(players, commandPacket);
         });
     }
 
+    /**
+     * Gets if the command tree only depends on the Reddox command permission, which is
+     * the case when every condition is either absent or {@link RichCommand#PERMISSION_CONDITION}.
+     *
+     * @return true if players with the same permission can share the same tree
+     */
+    private static boolean isPermissionOnlyTree() {
+        for (Command command : COMMAND_MANAGER.getCommands()) {
+            if (!isPermissionOnly(command)) return false;
+        }
+        return true;
+    }
+
+    private static boolean isPermissionOnly(@NotNull Command command) {
+        final CommandCondition condition = command.getCondition();
+        // Subclasses may replace the permission condition by their own
+        if (condition != null && condition != RichCommand.PERMISSION_CONDITION) return false;
+        for (CommandSyntax syntax : command.getSyntaxes()) {
+            if (syntax.getCommandCondition() != null) return false;
+        }
+        for (Command subcommand : command.getSubcommands()) {
+            if (!isPermissionOnly(subcommand)) return false;
+        }
+        return true;
+    }
+
     @Nullable
     public static ProxyObject retrieveCommandData(@NotNull CommandResult result, @NotNull String input) {
+        checkResult(result, input);
+        return retrieveCommandData(result.getCommandData());
+    }
+
+    public static void checkResult(@NotNull CommandResult result, @NotNull String input) {
         final CommandResult.Type type = result.getType();
-        if (type != CommandResult.Type.SUCCESS) {
+        if (type != CommandResult.Type.SUCCESS && !isSilent()) {
             System.err.println("ERROR COMMAND '" + input + "' with result: " + type);
         }
-        final CommandData commandData = result.getCommandData();
+    }
+
+    @Nullable
+    public static ProxyObject retrieveCommandData(@Nullable CommandData commandData) {
         if (commandData == null)
             return null;
 
-        // Convert all members to polyglot 'Value'
+        // Members are only converted to polyglot 'Value' once read by the script
         Properties properties = new Properties();
-        commandData.getDataMap().forEach(properties::putMember);
+        commandData.getDataMap().forEach((key, value) -> {
+            if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean) {
+                properties.putMember(key, value);
+            } else {
+                properties.putLazyMember(key, () -> value);
+            }
+        });
         return properties;
     }
 
+    /**
+     * Gets if the commands executed by the current thread should not send any feedback.
+     *
+     * @return true if feedback is skipped
+     */
+    public static boolean isSilent() {
+        return SILENT.get();
+    }
+
+    /**
+     * Enables or disables the feedback of the commands executed by the current thread.
+     *
+     * @param silent true to skip feedback
+     * @return the previous state, to restore once the commands are executed
+     */
+    public static boolean setSilent(boolean silent) {
+        final boolean previous = SILENT.get();
+        if (previous != silent) {
+            SILENT.set(silent);
+        }
+        return previous;
+    }
+
 }
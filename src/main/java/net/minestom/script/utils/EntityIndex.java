@@ -0,0 +1,92 @@
+package net.minestom.script.utils;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.Player;
+import net.minestom.server.event.GlobalEventHandler;
+import net.minestom.server.event.entity.EntitySpawnEvent;
+import net.minestom.server.event.instance.RemoveEntityFromInstanceEvent;
+import net.minestom.server.instance.Instance;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Live entities by uuid and players by username, maintained by the spawn and remove events.
+ * <p>
+ * Used to resolve the entities identified by scripts without scanning the instances.
+ */
+public final class EntityIndex {
+
+    private static final Map<UUID, Entity> ENTITIES = new ConcurrentHashMap<>();
+    // lowercase username -> player
+    private static final Map<String, Player> PLAYERS = new ConcurrentHashMap<>();
+
+    private static volatile boolean initialized;
+
+    private EntityIndex() {
+    }
+
+    /**
+     * Registers the index listeners and indexes the entities already spawned.
+     *
+     * @param globalEventHandler the handler to register the listeners to
+     */
+    public static synchronized void init(@NotNull GlobalEventHandler globalEventHandler) {
+        if (initialized) return;
+        initialized = true;
+        globalEventHandler.addListener(EntitySpawnEvent.class, event -> add(event.getEntity()));
+        globalEventHandler.addListener(RemoveEntityFromInstanceEvent.class, event -> remove(event.getEntity()));
+        for (Instance instance : MinecraftServer.getInstanceManager().getInstances()) {
+            instance.getEntities().forEach(EntityIndex::add);
+        }
+    }
+
+    public static @Nullable Entity getEntity(@NotNull UUID uuid) {
+        return ENTITIES.get(uuid);
+    }
+
+    public static @Nullable Player getPlayer(@NotNull String username) {
+        return PLAYERS.get(username.toLowerCase());
+    }
+
+    /**
+     * Finds an entity from its uuid or a player from its username.
+     *
+     * @param identifier the uuid or username, selectors are not supported
+     * @return the entity, null if not found or not an identifier
+     */
+    public static @Nullable Entity find(@Nullable String identifier) {
+        if (identifier == null || identifier.isEmpty() || identifier.charAt(0) == '@') return null;
+        if (identifier.length() == 36 && identifier.charAt(8) == '-') {
+            try {
+                return ENTITIES.get(UUID.fromString(identifier));
+            } catch (IllegalArgumentException ignored) {
+                // Not a uuid, may still be a username
+            }
+        }
+        return getPlayer(identifier);
+    }
+
+    public static int size() {
+        return ENTITIES.size();
+    }
+
+    private static void add(@NotNull Entity entity) {
+        ENTITIES.put(entity.getUuid(), entity);
+        if (entity instanceof Player player) {
+            PLAYERS.put(player.getUsername().toLowerCase(), player);
+        }
+    }
+
+    private static void remove(@NotNull Entity entity) {
+        // Only if not replaced by an entity spawned with the same uuid
+        ENTITIES.remove(entity.getUuid(), entity);
+        if (entity instanceof Player player) {
+            PLAYERS.remove(player.getUsername().toLowerCase(), player);
+        }
+    }
+}
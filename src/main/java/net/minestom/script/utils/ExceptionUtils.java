@@ -11,7 +11,7 @@ import org.jetbrains.annotations.NotNull;
 public class ExceptionUtils {
     public static void handleException(@NotNull Throwable throwable) {
         throwable.printStackTrace();
-        var audiences = Audiences.players(player -> ScriptManager.getCommandPermission().apply(player));
+        var audiences = Audiences.players(ScriptManager::hasCommandPermission);
         audiences.sendMessage(Component.text(throwable.getMessage(), NamedTextColor.RED));
 
         if (throwable instanceof PolyglotException) {
@@ -23,7 +23,7 @@ public class ExceptionUtils {
     }
 
     public static void sendMessage(Component component) {
-        var audiences = Audiences.players(player -> ScriptManager.getCommandPermission().apply(player));
+        var audiences = Audiences.players(ScriptManager::hasCommandPermission);
         audiences.sendMessage(component);
         MinecraftServer.getCommandManager().getConsoleSender().sendMessage(component);
     }
@@ -3,8 +3,14 @@ package net.minestom.script.utils;
 import org.jetbrains.annotations.NotNull;
 
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
 
 public class FileUtils {
     public static String readFile(@NotNull Path path) {
@@ -16,4 +22,52 @@ public class FileUtils {
         }
         return fileString;
     }
+
+    /**
+     * Writes a file atomically, readers either see the previous content or the whole new one.
+     * <p>
+     * The content is written to a temporary file in the same folder, then moved to the path.
+     *
+     * @param path    the file to write
+     * @param content the file content
+     */
+    public static void writeFile(@NotNull Path path, @NotNull String content) {
+        Path temporary = null;
+        try {
+            final Path parent = path.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            temporary = Files.createTempFile(parent, path.getFileName().toString(), ".tmp");
+            Files.writeString(temporary, content);
+            try {
+                Files.move(temporary, path, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temporary, path, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } catch (IOException e) {
+            e.printStackTrace();
+            if (temporary != null) {
+                try {
+                    Files.deleteIfExists(temporary);
+                } catch (IOException ignored) {
+                    // Left in the folder, never read
+                }
+            }
+        }
+    }
+
+    /**
+     * Computes the SHA-256 hash of a string, used to detect content changes.
+     *
+     * @param content the content to hash
+     * @return the hexadecimal hash
+     */
+    public static @NotNull String hash(@NotNull String content) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(content.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            // SHA-256 is required to be supported by every JVM
+            throw new IllegalStateException(e);
+        }
+    }
 }
@@ -0,0 +1,74 @@
+package net.minestom.script.utils;
+
+import net.minestom.script.property.HostProperty;
+import net.minestom.server.command.builder.CommandContext;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Server objects given by a script to the command being executed on the current thread.
+ * <p>
+ * Host properties are still converted to their {@link HostProperty#toArgument()} text to select the command syntax,
+ * but commands retrieve the original object from the argument raw input
+ * instead of resolving it again (e.g. an entity lookup by uuid).
+ */
+public final class HostArguments {
+
+    private static final ThreadLocal<Map<String, Object>> BOUND = new ThreadLocal<>();
+
+    private HostArguments() {
+    }
+
+    /**
+     * Binds the host properties of the inputs to the current thread.
+     *
+     * @param inputs the command inputs
+     * @return the previous bindings, to give back to {@link #restore(Map)}
+     */
+    public static @Nullable Map<String, Object> bind(@Nullable Object... inputs) {
+        final Map<String, Object> previous = BOUND.get();
+        if (inputs == null) return previous;
+        Map<String, Object> arguments = null;
+        for (Object input : inputs) {
+            if (!(input instanceof HostProperty hostProperty)) continue;
+            final Object hostObject = hostProperty.getHostObject();
+            if (hostObject == null) continue;
+            if (arguments == null) {
+                arguments = new HashMap<>();
+            }
+            arguments.put(hostProperty.toArgument(), hostObject);
+        }
+        if (arguments != null) {
+            BOUND.set(arguments);
+        }
+        return previous;
+    }
+
+    public static void restore(@Nullable Map<String, Object> previous) {
+        if (previous != null) {
+            BOUND.set(previous);
+        } else {
+            BOUND.remove();
+        }
+    }
+
+    /**
+     * Gets the server object given for an argument.
+     *
+     * @param context    the command context
+     * @param identifier the argument identifier
+     * @param type       the expected object type
+     * @param <T>        the object type
+     * @return the server object, null if the argument has been given as a string
+     */
+    public static <T> @Nullable T get(@NotNull CommandContext context, @NotNull String identifier,
+                                      @NotNull Class<T> type) {
+        final Map<String, Object> arguments = BOUND.get();
+        if (arguments == null || !context.has(identifier)) return null;
+        final Object hostObject = arguments.get(context.getRaw(identifier));
+        return type.isInstance(hostObject) ? type.cast(hostObject) : null;
+    }
+}
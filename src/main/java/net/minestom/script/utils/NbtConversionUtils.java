@@ -1,6 +1,10 @@
 package net.minestom.script.utils;
 
-import net.minestom.script.property.Properties;
+import net.minestom.script.property.NbtArrayView;
+import net.minestom.script.property.NbtCompoundView;
+import net.minestom.script.property.NbtListView;
+import net.minestom.script.property.NbtView;
+import net.minestom.server.utils.validate.Check;
 import org.graalvm.polyglot.Value;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
@@ -10,7 +14,6 @@ import org.jglrxavpok.hephaistos.nbt.mutable.MutableNBTCompound;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
-import java.util.function.Function;
 
 public class NbtConversionUtils {
 
@@ -21,22 +24,14 @@ public class NbtConversionUtils {
             object = ((NBTNumber<?>) nbt).getValue();
         } else if (nbt instanceof NBTString) {
             object = ((NBTString) nbt).getValue();
-        } else if (nbt instanceof NBTList) {
-            NBTList<NBT> list = (NBTList<NBT>) nbt;
-            Value[] array = new Value[list.getSize()];
-            for (int i = 0; i < array.length; i++) {
-                NBT listElement = list.get(i);
-                array[i] = toValue(listElement);
-            }
-            object = array;
+        } else if (nbt instanceof NBTByteArray || nbt instanceof NBTIntArray || nbt instanceof NBTLongArray) {
+            // Elements are read from the tag, the array is never copied
+            object = new NbtArrayView(nbt);
+        } else if (nbt instanceof NBTList<?> list) {
+            // Elements are converted when accessed
+            object = new NbtListView(list);
         } else if (nbt instanceof NBTCompound compound) {
-            Properties properties = new Properties();
-            for (String key : compound.getKeys()) {
-                final NBT value = compound.get(key);
-                assert value != null;
-                properties.putMember(key, value);
-            }
-            object = properties;
+            object = new NbtCompoundView(compound);
         }
 
         if (object == null) {
@@ -48,60 +43,112 @@ public class NbtConversionUtils {
     @NotNull
     public static NBTCompound fromMap(@NotNull Map<String, Object> map) {
         MutableNBTCompound compound = new MutableNBTCompound();
-        map.forEach((key, value) -> {
-            NBTConverter<?> converter = getConverter(value);
-            compound.set(key, converter.makeNBT());
-        });
-
+        map.forEach((key, value) -> compound.set(key, toNbt(value)));
         return compound.toCompound();
     }
 
     public static NBTList<?> fromList(@NotNull List<Object> list) {
-        NBTType<?> type = null;
-        List<NBT> nbtList = new ArrayList<>();
+        if (list.isEmpty()) {
+            return NBT.List(NBTType.TAG_End, List.of());
+        }
+        List<NBT> nbtList = new ArrayList<>(list.size());
         for (Object value : list) {
-            NBTConverter<?> converter = getConverter(value);
-            if (type == null) {
-                // Use first element of the list as the list's type
-                type = converter.type();
-            }
-            nbtList.add(converter.makeNBT());
+            nbtList.add(toNbt(value));
         }
-
+        // Use first element of the list as the list's type
+        final NBTType<?> type = nbtList.get(0).getID();
         return NBT.List(type, nbtList);
     }
 
+    /**
+     * Gets if a script value is a typed array which can be copied to a primitive nbt array.
+     *
+     * @param value the script value
+     * @return true if {@link #fromTypedArray(Value)} can convert the value
+     */
+    public static boolean isTypedArray(@NotNull Value value) {
+        return typedArrayName(value) != null;
+    }
+
+    /**
+     * Copies a script typed array to a java array, element by element.
+     * <p>
+     * Int8Array and Uint8Array become byte[], Int32Array and Uint32Array become int[],
+     * BigInt64Array and BigUint64Array become long[]. Unsigned values keep their bits,
+     * 255 in a Uint8Array becomes the byte -1.
+     *
+     * @param value the script typed array
+     * @return the java primitive array
+     */
+    public static @NotNull Object fromTypedArray(@NotNull Value value) {
+        final String name = typedArrayName(value);
+        Check.argCondition(name == null, "Value is not a supported typed array");
+        return switch (name) {
+            case "Int8Array" -> value.as(byte[].class);
+            case "Int32Array" -> value.as(int[].class);
+            case "BigInt64Array" -> value.as(long[].class);
+            // Values above the signed range cannot be converted, read the same bytes as signed
+            case "Uint8Array" -> signedView(value, "Int8Array").as(byte[].class);
+            case "Uint32Array" -> signedView(value, "Int32Array").as(int[].class);
+            case "BigUint64Array" -> signedView(value, "BigInt64Array").as(long[].class);
+            default -> throw new IllegalStateException("Unexpected typed array " + name);
+        };
+    }
+
+    private static @NotNull Value signedView(@NotNull Value value, @NotNull String signedName) {
+        final Value constructor = value.getContext().getBindings("js").getMember(signedName);
+        return constructor.newInstance(value.getMember("buffer"),
+                value.getMember("byteOffset"), value.getMember("length"));
+    }
+
+    private static @Nullable String typedArrayName(@NotNull Value value) {
+        if (!value.hasArrayElements() || value.isHostObject() || !value.hasMember("BYTES_PER_ELEMENT")) {
+            return null;
+        }
+        final Value constructor = value.getMember("constructor");
+        if (constructor == null || !constructor.hasMember("name")) {
+            return null;
+        }
+        final String name = constructor.getMember("name").asString();
+        return switch (name) {
+            case "Int8Array", "Uint8Array", "Int32Array", "Uint32Array",
+                    "BigInt64Array", "BigUint64Array" -> name;
+            default -> null;
+        };
+    }
+
     @NotNull
-    private static NBTConverter<?> getConverter(@NotNull Object value) {
-        // TODO byte/int/long arrays
+    private static NBT toNbt(@NotNull Object value) {
         if (value instanceof Byte) {
-            return new NBTConverter<>((Byte) value, NBTType.TAG_Byte, NBTByte::new);
+            return new NBTByte((Byte) value);
         } else if (value instanceof Short) {
-            return new NBTConverter<>((Short) value, NBTType.TAG_Short, NBTShort::new);
+            return new NBTShort((Short) value);
         } else if (value instanceof Integer) {
-            return new NBTConverter<>((Integer) value, NBTType.TAG_Int, NBTInt::new);
+            return new NBTInt((Integer) value);
         } else if (value instanceof Long) {
-            return new NBTConverter<>((Long) value, NBTType.TAG_Long, NBTLong::new);
+            return new NBTLong((Long) value);
         } else if (value instanceof Float) {
-            return new NBTConverter<>((Float) value, NBTType.TAG_Float, NBTFloat::new);
+            return new NBTFloat((Float) value);
         } else if (value instanceof Double) {
-            return new NBTConverter<>((Double) value, NBTType.TAG_Double, NBTDouble::new);
+            return new NBTDouble((Double) value);
         } else if (value instanceof String) {
-            return new NBTConverter<>((String) value, NBTType.TAG_String, NBTString::new);
+            return new NBTString((String) value);
+        } else if (value instanceof byte[]) {
+            return new NBTByteArray((byte[]) value);
+        } else if (value instanceof int[]) {
+            return new NBTIntArray((int[]) value);
+        } else if (value instanceof long[]) {
+            return new NBTLongArray((long[]) value);
         } else if (value instanceof List) {
-            return new NBTConverter<>((List) value, NBTType.TAG_List, NbtConversionUtils::fromList);
+            return fromList((List<Object>) value);
         } else if (value instanceof NBTCompound) {
-            return new NBTConverter<>((NBTCompound) value, NBTType.TAG_Compound, nbtCompound -> nbtCompound);
+            return (NBTCompound) value;
+        } else if (value instanceof NbtView view) {
+            // Unmodified nbt sent back by the script
+            return view.nbt();
         }
 
         throw new IllegalArgumentException("Type " + value.getClass() + " is not an expected nbt value");
     }
 
-    private record NBTConverter<T>(T value, NBTType<?> type,
-                                   Function<T, NBT> converter) {
-        public NBT makeNBT() {
-            return converter.apply(value);
-        }
-    }
-
 }
@@ -1,41 +1,89 @@
 package net.minestom.script.utils;
 
+import net.minestom.script.ScriptManager;
 import org.graalvm.polyglot.Context;
 import org.graalvm.polyglot.Source;
 import org.graalvm.polyglot.Value;
 import org.graalvm.polyglot.proxy.ProxyObject;
 import org.jetbrains.annotations.NotNull;
 
-import java.net.MalformedURLException;
+import java.io.IOException;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 public class TypeScriptTranspiler {
 
-    private static final Value TRANSPILE_MODULE_FUNCTION;
+    // Keep in sync with 'typescriptVersion' in build.gradle
+    private static final String TYPESCRIPT_VERSION = "3.4.3";
+    // Bundled at build time, no network access is required at runtime
+    private static final String TYPESCRIPT_RESOURCE = "/typescript.js";
 
-    static {
-        URL url;
-        try {
-            url = new URL("https://cdnjs.cloudflare.com/ajax/libs/typescript/3.4.3/typescript.js");
-        } catch (MalformedURLException e) {
-            e.printStackTrace();
-            throw new IllegalStateException("typescript transpiler link is not working");
-        }
-        Context context = Context.create("js");
-        Source source = Source.newBuilder("js", url).buildLiteral();
-        context.eval(source);
-        TRANSPILE_MODULE_FUNCTION = context.eval("js", "ts.transpileModule");
-    }
+    private static final Path CACHE_FOLDER = Path.of(".cache", "typescript");
+    // content hash -> transpiled source
+    private static final Map<String, String> CACHE = new ConcurrentHashMap<>();
 
+    private static Value transpileModuleFunction;
+
+    /**
+     * Transpiles a typescript source to javascript.
+     * <p>
+     * Results are cached in memory and on disk based on the content hash,
+     * unchanged sources therefore never reach the compiler again, even after a restart.
+     *
+     * @param source the typescript source
+     * @return the transpiled javascript source
+     */
     @NotNull
     public static String transpile(@NotNull String source) {
-        assert TRANSPILE_MODULE_FUNCTION != null;
-        var result = TRANSPILE_MODULE_FUNCTION.execute(source, ProxyObject.fromMap(Map.of("lib", "es2020")));
+        final String hash = FileUtils.hash(TYPESCRIPT_VERSION + source);
+        String outputText = CACHE.get(hash);
+        if (outputText != null) {
+            return outputText;
+        }
+
+        final Path cachePath = CACHE_FOLDER.resolve(hash + ".js");
+        if (Files.isRegularFile(cachePath)) {
+            outputText = FileUtils.readFile(cachePath);
+        }
+        if (outputText == null) {
+            outputText = compile(source);
+            FileUtils.writeFile(cachePath, outputText);
+        }
+        CACHE.put(hash, outputText);
+        return outputText;
+    }
+
+    private static synchronized String compile(@NotNull String source) {
+        if (transpileModuleFunction == null) {
+            transpileModuleFunction = loadCompiler();
+        }
+        var result = transpileModuleFunction.execute(source, ProxyObject.fromMap(Map.of("lib", "es2020")));
         var outputText = result.getMember("outputText").asString();
         assert result.getMember("diagnostics").getArraySize() == 0;
         return outputText;
     }
 
+    private static Value loadCompiler() {
+        final URL url = TypeScriptTranspiler.class.getResource(TYPESCRIPT_RESOURCE);
+        if (url == null) {
+            throw new IllegalStateException("typescript compiler is not bundled (missing " + TYPESCRIPT_RESOURCE + ")");
+        }
+        Source source;
+        try {
+            source = Source.newBuilder("js", url).build();
+        } catch (IOException e) {
+            e.printStackTrace();
+            throw new IllegalStateException("typescript compiler cannot be read");
+        }
+        // Compiled on the shared engine, its code is kept warm across reloads
+        Context context = Context.newBuilder("js")
+                .engine(ScriptManager.getEngine())
+                .build();
+        context.eval(source);
+        return context.eval("js", "ts.transpileModule");
+    }
 
 }
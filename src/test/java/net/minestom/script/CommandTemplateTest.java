@@ -0,0 +1,92 @@
+package net.minestom.script;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.command.builder.Command;
+import net.minestom.server.command.builder.CommandContext;
+import net.minestom.server.command.builder.CommandData;
+import net.minestom.server.command.builder.arguments.ArgumentType;
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyObject;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.text.MessageFormat;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CommandTemplateTest {
+
+    private static final List<CommandContext> CONTEXTS = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    public static void init() {
+        MinecraftServer.init();
+        Command command = new Command("templatetest");
+        command.addSyntax((sender, context) -> {
+            CONTEXTS.add(context);
+            context.setReturnData(new CommandData().set("value", context.get("value")));
+        }, ArgumentType.Integer("value"));
+        MinecraftServer.getCommandManager().register(command);
+    }
+
+    @Test
+    public void format() {
+        final CommandTemplate template = CommandTemplate.compile("tp {0} {1} {0}");
+        assertEquals("tp a b a", template.format("a", "b"));
+        // Missing arguments are kept as placeholders
+        assertEquals("tp a {1} a", template.format("a"));
+        assertEquals("no placeholder", CommandTemplate.compile("no placeholder").format("a"));
+    }
+
+    @Test
+    public void messageFormatQuoting() {
+        for (String pattern : List.of("say '{0}' is {0}", "say don''t {0}", "say '{'{0}'}'",
+                "say 'it''s' {0}", "say } {0}", "say 'unterminated {0}")) {
+            assertEquals(MessageFormat.format(pattern, "x"), CommandTemplate.compile(pattern).format("x"), pattern);
+        }
+    }
+
+    @Test
+    public void rejectedPatterns() {
+        assertThrows(IllegalArgumentException.class, () -> CommandTemplate.compile("give {0,number,#} stone"));
+        assertThrows(IllegalArgumentException.class, () -> CommandTemplate.compile("give {0,choice,0#none}"));
+        assertThrows(IllegalArgumentException.class, () -> CommandTemplate.compile("give {player}"));
+        assertThrows(IllegalArgumentException.class, () -> CommandTemplate.compile("give {}"));
+        assertThrows(IllegalArgumentException.class, () -> CommandTemplate.compile("give {0"));
+        // Numbers are not grouped like MessageFormat would
+        assertEquals("give 10000", CommandTemplate.compile("give {0}").format(10000));
+    }
+
+    @Test
+    public void cacheKeepsValidCommandsOnly() {
+        final CommandTemplate template = CommandTemplate.compile("templatetest {0}");
+        CONTEXTS.clear();
+
+        final ProxyObject first = template.run(ExecutionOptions.DEFAULT, 5);
+        final ProxyObject second = template.run(ExecutionOptions.DEFAULT, 5);
+        assertEquals(1, template.cachedInputs());
+        assertEquals(5, ((Value) first.getMember("value")).asInt());
+        assertEquals(5, ((Value) second.getMember("value")).asInt());
+        // The cached parse result does not share its context between executions
+        assertEquals(2, CONTEXTS.size());
+        assertNotSame(CONTEXTS.get(0), CONTEXTS.get(1));
+
+        assertEquals(6, ((Value) template.run(ExecutionOptions.DEFAULT, 6).getMember("value")).asInt());
+        assertEquals(2, template.cachedInputs());
+
+        // Invalid syntax, reported by the manager and never cached
+        assertNull(template.run(ExecutionOptions.DEFAULT, "not_a_number"));
+        assertEquals(2, template.cachedInputs());
+    }
+
+    @Test
+    public void cacheIsBounded() {
+        final CommandTemplate template = CommandTemplate.compile("templatetest {0}");
+        for (int i = 0; i < CommandTemplate.CACHE_SIZE * 2; i++) {
+            template.run(ExecutionOptions.DEFAULT, i);
+        }
+        assertEquals(CommandTemplate.CACHE_SIZE, template.cachedInputs());
+    }
+}
@@ -0,0 +1,112 @@
+package net.minestom.script;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScriptEventLoopTest {
+
+    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+
+    @Test
+    public void drainOnClose() throws InterruptedException {
+        final ScriptEventLoop loop = new ScriptEventLoop("drain", 16);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        // Only read from the loop thread, then after its termination
+        final List<Integer> executed = new ArrayList<>();
+        final List<Boolean> terminated = new ArrayList<>();
+
+        assertTrue(loop.post(() -> {
+            started.countDown();
+            await(release);
+        }));
+        assertTrue(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        for (int i = 0; i < 5; i++) {
+            final int value = i;
+            assertTrue(loop.post(() -> executed.add(value)));
+        }
+
+        // Returns while the loop is still blocked
+        loop.close(() -> terminated.add(executed.size() == 5));
+        assertFalse(loop.post(() -> executed.add(-1)));
+        assertFalse(loop.awaitTermination(Duration.ofMillis(50)));
+
+        release.countDown();
+        assertTrue(loop.awaitTermination(TIMEOUT));
+        assertEquals(List.of(0, 1, 2, 3, 4), executed);
+        // The termination task runs once, after the pending tasks
+        assertEquals(List.of(true), terminated);
+        assertEquals(6, loop.processedCount());
+        assertEquals(0, loop.queueDepth());
+    }
+
+    @Test
+    public void closeIdle() {
+        final ScriptEventLoop loop = new ScriptEventLoop("idle", 16);
+        final CountDownLatch terminated = new CountDownLatch(1);
+        loop.close(terminated::countDown);
+        assertTrue(loop.awaitTermination(TIMEOUT));
+        assertEquals(0, terminated.getCount());
+        assertEquals(0, loop.processedCount());
+    }
+
+    @Test
+    public void dropWhenFull() throws InterruptedException {
+        final ScriptEventLoop loop = new ScriptEventLoop("full", 2);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        assertTrue(loop.post(() -> {
+            started.countDown();
+            await(release);
+        }));
+        assertTrue(started.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+
+        assertTrue(loop.post(() -> {
+        }));
+        assertTrue(loop.post(() -> {
+        }));
+        assertEquals(2, loop.queueDepth());
+        assertFalse(loop.post(() -> {
+        }));
+        assertEquals(1, loop.droppedCount());
+
+        release.countDown();
+        loop.close(() -> {
+        });
+        assertTrue(loop.awaitTermination(TIMEOUT));
+        assertEquals(3, loop.processedCount());
+    }
+
+    @Test
+    public void loopThread() throws InterruptedException {
+        final ScriptEventLoop loop = new ScriptEventLoop("thread", 16);
+        final CountDownLatch executed = new CountDownLatch(1);
+        final boolean[] onLoop = new boolean[1];
+        loop.post(() -> {
+            onLoop[0] = loop.isLoopThread();
+            executed.countDown();
+        });
+        assertTrue(executed.await(TIMEOUT.toMillis(), TimeUnit.MILLISECONDS));
+        assertTrue(onLoop[0]);
+        assertFalse(loop.isLoopThread());
+
+        loop.close(() -> {
+        });
+        assertTrue(loop.awaitTermination(TIMEOUT));
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
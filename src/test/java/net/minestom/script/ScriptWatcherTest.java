@@ -0,0 +1,71 @@
+package net.minestom.script;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ScriptWatcherTest {
+
+    @TempDir
+    Path root;
+
+    private final BlockingQueue<String> reloaded = new LinkedBlockingQueue<>();
+    private ScriptWatcher watcher;
+
+    @BeforeEach
+    public void startWatcher() throws IOException {
+        this.watcher = new ScriptWatcher(root, reloaded::add);
+        this.watcher.start();
+    }
+
+    @AfterEach
+    public void closeWatcher() {
+        this.watcher.close();
+    }
+
+    @Test
+    public void debounce() throws Exception {
+        final Path script = root.resolve("debounce.js");
+        // Modifications closer than the debounce delay
+        for (int i = 0; i < 5; i++) {
+            Files.writeString(script, "// revision " + i);
+            Thread.sleep(50);
+        }
+        assertEquals("debounce.js", reloaded.poll(5, TimeUnit.SECONDS));
+        // Reloaded a single time
+        assertNull(reloaded.poll(1, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void separateChanges() throws Exception {
+        final Path script = root.resolve("separate.js");
+        Files.writeString(script, "// first");
+        assertEquals("separate.js", reloaded.poll(5, TimeUnit.SECONDS));
+        Files.writeString(script, "// second");
+        assertEquals("separate.js", reloaded.poll(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    public void folderScripts() throws Exception {
+        final Path folder = Files.createDirectory(root.resolve("folder"));
+        assertEquals("folder", reloaded.poll(5, TimeUnit.SECONDS));
+        // Files of a new folder are watched and reload the top-level folder
+        Files.writeString(folder.resolve("main.js"), "// main");
+        Files.writeString(root.resolve("other.js"), "// other");
+        final List<String> names = List.of(
+                reloaded.poll(5, TimeUnit.SECONDS),
+                reloaded.poll(5, TimeUnit.SECONDS));
+        assertTrue(names.containsAll(List.of("folder", "other.js")), names.toString());
+    }
+}
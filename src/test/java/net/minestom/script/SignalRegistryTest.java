@@ -0,0 +1,111 @@
+package net.minestom.script;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SignalRegistryTest {
+
+    @Test
+    public void ids() {
+        assertEquals(SignalRegistry.UNKNOWN, SignalRegistry.lookup("registrytest:ids"));
+        final int id = SignalRegistry.id("RegistryTest:Ids");
+        assertEquals(id, SignalRegistry.id("registrytest:ids"));
+        assertEquals(id, SignalRegistry.lookup("REGISTRYTEST:IDS"));
+        assertEquals("registrytest:ids", SignalRegistry.name(id));
+        // Event signals keep their ordinal
+        for (EventSignal signal : EventSignal.values()) {
+            assertEquals(signal.ordinal(), SignalRegistry.lookup(signal.name()));
+        }
+    }
+
+    @Test
+    public void subscribe() {
+        final int id = SignalRegistry.id("registrytest:subscribe");
+        final GlobalExecutor first = listening("registrytest:subscribe");
+        final GlobalExecutor second = listening("registrytest:subscribe");
+
+        SignalRegistry.subscribe(id, first);
+        SignalRegistry.subscribe(id, second);
+        // Subscribing twice does not duplicate the executor
+        SignalRegistry.subscribe(id, first);
+        assertArrayEquals(new GlobalExecutor[]{first, second}, SignalRegistry.subscribers(id));
+        assertEquals(2, GlobalExecutor.getSubscriberCount("registrytest:subscribe"));
+
+        SignalRegistry.unsubscribe(first);
+        assertArrayEquals(new GlobalExecutor[]{second}, SignalRegistry.subscribers(id));
+        SignalRegistry.unsubscribe(second);
+        assertEquals(0, SignalRegistry.subscribers(id).length);
+        assertFalse(GlobalExecutor.retrieveSignals().contains("registrytest:subscribe"));
+    }
+
+    @Test
+    public void copyOnWrite() {
+        final int id = SignalRegistry.id("registrytest:copy");
+        final GlobalExecutor first = listening("registrytest:copy");
+        final GlobalExecutor second = listening("registrytest:copy");
+        SignalRegistry.subscribe(id, first);
+
+        // Arrays already handed to dispatchers are never modified
+        final GlobalExecutor[] snapshot = SignalRegistry.subscribers(id);
+        SignalRegistry.subscribe(id, second);
+        assertArrayEquals(new GlobalExecutor[]{first}, snapshot);
+
+        final GlobalExecutor[] subscribed = SignalRegistry.subscribers(id);
+        SignalRegistry.unsubscribe(first);
+        assertArrayEquals(new GlobalExecutor[]{first, second}, subscribed);
+        assertArrayEquals(new GlobalExecutor[]{second}, SignalRegistry.subscribers(id));
+
+        SignalRegistry.unsubscribe(second);
+    }
+
+    @Test
+    public void subscribeAll() {
+        final int firstId = SignalRegistry.id("registrytest:all1");
+        final int secondId = SignalRegistry.id("registrytest:all2");
+        final GlobalExecutor first = listening("registrytest:all1");
+        final GlobalExecutor second = listening("registrytest:all1", "registrytest:all2");
+
+        SignalRegistry.subscribeAll(List.of(first, second));
+        assertArrayEquals(new GlobalExecutor[]{first, second}, SignalRegistry.subscribers(firstId));
+        assertArrayEquals(new GlobalExecutor[]{second}, SignalRegistry.subscribers(secondId));
+
+        SignalRegistry.unsubscribe(first);
+        SignalRegistry.unsubscribe(second);
+        assertEquals(0, SignalRegistry.subscribers(firstId).length);
+        assertEquals(0, SignalRegistry.subscribers(secondId).length);
+    }
+
+    @Test
+    public void replaceKeepsPosition() {
+        final int keptId = SignalRegistry.id("registrytest:kept");
+        final int droppedId = SignalRegistry.id("registrytest:dropped");
+        final int addedId = SignalRegistry.id("registrytest:added");
+        final GlobalExecutor before = listening("registrytest:kept");
+        final GlobalExecutor previous = listening("registrytest:kept", "registrytest:dropped");
+        final GlobalExecutor after = listening("registrytest:kept");
+        SignalRegistry.subscribeAll(List.of(before, previous, after));
+
+        final GlobalExecutor replacement = listening("registrytest:kept", "registrytest:added");
+        SignalRegistry.replace(previous, replacement);
+        assertArrayEquals(new GlobalExecutor[]{before, replacement, after}, SignalRegistry.subscribers(keptId));
+        // Signals no longer listened to are left, new ones are joined
+        assertEquals(0, SignalRegistry.subscribers(droppedId).length);
+        assertArrayEquals(new GlobalExecutor[]{replacement}, SignalRegistry.subscribers(addedId));
+
+        for (GlobalExecutor executor : List.of(before, replacement, after)) {
+            SignalRegistry.unsubscribe(executor);
+        }
+    }
+
+    private static GlobalExecutor listening(String... signals) {
+        GlobalExecutor executor = new GlobalExecutor();
+        for (String signal : signals) {
+            executor.onSignal(signal, (properties, output) -> {
+            });
+        }
+        return executor;
+    }
+}
@@ -0,0 +1,159 @@
+package net.minestom.script.component;
+
+import net.minestom.script.component.RegionComponent.Region;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Vec;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionIndexTest {
+
+    @Test
+    public void at() {
+        RegionIndex index = new RegionIndex();
+        final Region region = region("spawn", 0, 0, 0, 40, 10, 40);
+        index.add(region);
+        assertEquals(List.of(region), index.at(new Vec(20, 5, 20)));
+        assertEquals(List.of(), index.at(new Vec(20, 50, 20)));
+        assertEquals(List.of(), index.at(new Vec(-20, 5, 20)));
+
+        index.remove(region);
+        assertEquals(List.of(), index.at(new Vec(20, 5, 20)));
+    }
+
+    @Test
+    public void intersectingReportsOnce() {
+        RegionIndex index = new RegionIndex();
+        // Spans 4x4 columns
+        final Region region = region("wide", -32, 0, -32, 31, 10, 31);
+        index.add(region);
+        // Enough regions for the queries to visit the columns
+        addFillers(index, 64);
+
+        assertEquals(List.of(region), index.intersecting(new Vec(-40, 0, -40), new Vec(40, 10, 40)));
+        // Query starting inside the region, past its first column
+        assertEquals(List.of(region), index.intersecting(new Vec(0, 0, 0), new Vec(40, 10, 40)));
+        assertEquals(List.of(region), index.intersecting(new Vec(5, 5, 5), new Vec(6, 6, 6)));
+        assertEquals(List.of(), index.intersecting(new Vec(-40, 20, -40), new Vec(40, 30, 40)));
+    }
+
+    @Test
+    public void intersectingMatchesBruteForce() {
+        final Random random = new Random(25);
+        RegionIndex index = new RegionIndex();
+        List<Region> regions = randomRegions(random, index, 300, 2000, 100);
+        for (int i = 0; i < 200; i++) {
+            final Vec min = randomPoint(random, 2000);
+            final Vec max = min.add(random.nextInt(400), random.nextInt(64), random.nextInt(400));
+            List<Region> expected = new ArrayList<>();
+            for (Region region : regions) {
+                if (region.intersects(min, max)) expected.add(region);
+            }
+            final List<Region> result = index.intersecting(min, max);
+            assertEquals(result.size(), new HashSet<>(result).size(), "duplicated region");
+            assertEquals(new HashSet<>(expected), new HashSet<>(result));
+        }
+    }
+
+    @Test
+    public void nearestMatchesBruteForce() {
+        final Random random = new Random(25);
+        RegionIndex index = new RegionIndex();
+        List<Region> regions = randomRegions(random, index, 300, 2000, 40);
+        for (int i = 0; i < 200; i++) {
+            final Vec point = randomPoint(random, 2500);
+            assertEquals(nearestDistance(regions, point), index.nearest(point).distanceSquared(point), point.toString());
+        }
+    }
+
+    @Test
+    public void nearestRingBound() {
+        RegionIndex index = new RegionIndex();
+        // The closest region by distance is in a further ring than the first region found
+        final Region diagonal = region("diagonal", 30, 0, 30, 31, 0, 31);
+        final Region straight = region("straight", 40, 0, 0, 41, 0, 1);
+        index.add(diagonal);
+        index.add(straight);
+        addFillers(index, 64);
+        assertSame(straight, index.nearest(new Vec(8, 0, 0)));
+        assertSame(diagonal, index.nearest(new Vec(28, 0, 28)));
+    }
+
+    @Test
+    public void nearestSparse() {
+        RegionIndex index = new RegionIndex();
+        assertNull(index.nearest(Vec.ZERO));
+        // Far apart regions, found without visiting every ring
+        final Region near = region("near", 100_000, 0, 100_000, 100_001, 1, 100_001);
+        final Region far = region("far", -100_000, 0, -100_000, -99_999, 1, -99_999);
+        index.add(near);
+        index.add(far);
+        assertSame(near, index.nearest(new Vec(50, 0, 50)));
+        assertSame(far, index.nearest(new Vec(-50, 0, -50)));
+    }
+
+    @Test
+    public void largeRegions() {
+        RegionIndex index = new RegionIndex();
+        // 32x32 columns, past the 256 columns stored in the grid
+        final Region large = region("large", -256, 0, -256, 255, 255, 255);
+        final Region small = region("small", 0, 0, 0, 4, 4, 4);
+        index.add(large);
+        index.add(small);
+        addFillers(index, 64);
+
+        assertEquals(List.of(small, large), index.at(new Vec(2, 2, 2)));
+        assertEquals(List.of(large), index.at(new Vec(-200, 2, 200)));
+        assertEquals(List.of(large), index.intersecting(new Vec(100, 0, 100), new Vec(120, 10, 120)));
+        assertSame(large, index.nearest(new Vec(300, 0, 0)));
+
+        index.remove(large);
+        assertEquals(List.of(small), index.at(new Vec(2, 2, 2)));
+        assertEquals(List.of(), index.at(new Vec(-200, 2, 200)));
+        assertSame(small, index.nearest(new Vec(300, 0, 0)));
+    }
+
+    private static Region region(String identifier, double minX, double minY, double minZ,
+                                 double maxX, double maxY, double maxZ) {
+        return new Region(identifier, new Vec(minX, minY, minZ), new Vec(maxX, maxY, maxZ), null);
+    }
+
+    private static void addFillers(RegionIndex index, int count) {
+        // Far from the tested regions
+        for (int i = 0; i < count; i++) {
+            index.add(region("filler" + i, 10_000 + i * 32, 0, 10_000, 10_000 + i * 32 + 1, 1, 10_001));
+        }
+    }
+
+    private static List<Region> randomRegions(Random random, RegionIndex index, int count, int range, int maxSize) {
+        List<Region> regions = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            final Vec min = randomPoint(random, range);
+            // A few regions large enough to be kept out of the grid
+            final int size = i % 50 == 0 ? 600 : random.nextInt(maxSize);
+            final Vec max = min.add(size, random.nextInt(32), random.nextInt(size + 1));
+            final Region region = new Region("region" + i, min, max, null);
+            index.add(region);
+            regions.add(region);
+        }
+        return regions;
+    }
+
+    private static Vec randomPoint(Random random, int range) {
+        return new Vec(random.nextInt(2 * range) - range, random.nextInt(256), random.nextInt(2 * range) - range);
+    }
+
+    private static double nearestDistance(List<Region> regions, Point point) {
+        double nearest = Double.MAX_VALUE;
+        for (Region region : regions) {
+            nearest = Math.min(nearest, region.distanceSquared(point));
+        }
+        return nearest;
+    }
+}
@@ -0,0 +1,98 @@
+package net.minestom.script.property;
+
+import org.graalvm.polyglot.Value;
+import org.graalvm.polyglot.proxy.ProxyArray;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PropertyShapeTest {
+
+    @Test
+    public void sharedTransitions() {
+        final PropertyShape root = PropertyShape.root(SharedProperties.class);
+        final PropertyShape a = root.with("a");
+        assertSame(a, root.with("a"));
+        final PropertyShape ab = a.with("b");
+        assertFalse(ab.isDictionary());
+        assertEquals(2, ab.size());
+        assertEquals(0, ab.slot("a"));
+        assertEquals(1, ab.slot("b"));
+        assertEquals(-1, ab.slot("c"));
+        assertEquals(2, root.expectedSize());
+    }
+
+    @Test
+    public void wideShapeBecomesDictionary() {
+        final PropertyShape root = PropertyShape.root(WideProperties.class);
+        PropertyShape shape = root;
+        for (int i = 0; i < PropertyShape.MAX_WIDTH; i++) {
+            shape = shape.with("key" + i);
+            assertFalse(shape.isDictionary());
+        }
+        final PropertyShape dictionary = shape.with("extra");
+        assertTrue(dictionary.isDictionary());
+        assertEquals(PropertyShape.MAX_WIDTH + 1, dictionary.size());
+        assertEquals(PropertyShape.MAX_WIDTH, dictionary.slot("extra"));
+        assertEquals(0, dictionary.slot("key0"));
+        // Grown in place from now on
+        assertSame(dictionary, dictionary.with("other"));
+        assertEquals(PropertyShape.MAX_WIDTH + 1, dictionary.slot("other"));
+        // Neither cached nor counted in the size of new instances
+        assertNotSame(dictionary, shape.with("extra"));
+        assertEquals(PropertyShape.MAX_WIDTH, root.expectedSize());
+    }
+
+    @Test
+    public void polymorphicShapeBecomesDictionary() {
+        final PropertyShape root = PropertyShape.root(PolymorphicProperties.class);
+        for (int i = 0; i < PropertyShape.MAX_TRANSITIONS; i++) {
+            assertFalse(root.with("key" + i).isDictionary());
+        }
+        // Existing transitions are still shared
+        assertSame(root.with("key0"), root.with("key0"));
+        final PropertyShape dictionary = root.with("extra");
+        assertTrue(dictionary.isDictionary());
+        assertEquals(0, dictionary.slot("extra"));
+    }
+
+    @Test
+    public void memberKeysOrder() {
+        final Properties properties = new MapProperties();
+        final int count = PropertyShape.MAX_WIDTH * 2;
+        for (int i = 0; i < count; i++) {
+            properties.putMember("key" + i, i);
+        }
+        final ProxyArray keys = (ProxyArray) properties.getMemberKeys();
+        assertEquals(count + 1, keys.getSize());
+        assertEquals(Properties.TYPE_MEMBER, keys.get(0));
+        for (int i = 0; i < count; i++) {
+            assertEquals("key" + i, keys.get(i + 1));
+            assertEquals(i, ((Value) properties.getMember("key" + i)).asInt());
+        }
+
+        // Overriding a member keeps its slot, the previous keys array is a snapshot
+        properties.putMember("key0", -1);
+        properties.putMember("last", 0);
+        assertEquals(-1, ((Value) properties.getMember("key0")).asInt());
+        assertEquals(count + 1, keys.getSize());
+        assertThrows(IndexOutOfBoundsException.class, () -> keys.get(count + 1));
+        final ProxyArray updatedKeys = (ProxyArray) properties.getMemberKeys();
+        assertEquals(count + 2, updatedKeys.getSize());
+        assertEquals("last", updatedKeys.get(count + 1));
+    }
+
+    // One class per test, each property class has its own root shape
+
+    private static final class SharedProperties extends Properties {
+    }
+
+    private static final class WideProperties extends Properties {
+    }
+
+    private static final class PolymorphicProperties extends Properties {
+    }
+
+    private static final class MapProperties extends Properties {
+    }
+}
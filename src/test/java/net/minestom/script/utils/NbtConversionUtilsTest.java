@@ -0,0 +1,88 @@
+package net.minestom.script.utils;
+
+import net.minestom.script.property.NbtArrayView;
+import org.graalvm.polyglot.Context;
+import org.graalvm.polyglot.Value;
+import org.jglrxavpok.hephaistos.nbt.NBTIntArray;
+import org.jglrxavpok.hephaistos.nbt.NBTLongArray;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class NbtConversionUtilsTest {
+
+    private Context context;
+
+    @BeforeEach
+    public void createContext() {
+        this.context = Context.create("js");
+    }
+
+    @AfterEach
+    public void closeContext() {
+        this.context.close();
+    }
+
+    @Test
+    public void signedArrays() {
+        assertArrayEquals(new byte[]{-128, 0, 127},
+                (byte[]) convert("new Int8Array([-128, 0, 127])"));
+        assertArrayEquals(new int[]{Integer.MIN_VALUE, 0, Integer.MAX_VALUE},
+                (int[]) convert("new Int32Array([-(2 ** 31), 0, 2 ** 31 - 1])"));
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 0, Long.MAX_VALUE},
+                (long[]) convert("new BigInt64Array([-(2n ** 63n), 0n, 2n ** 63n - 1n])"));
+    }
+
+    @Test
+    public void unsignedArraysAboveSignedRange() {
+        assertArrayEquals(new byte[]{0, 127, -128, -1},
+                (byte[]) convert("new Uint8Array([0, 127, 128, 255])"));
+        assertArrayEquals(new int[]{0, Integer.MAX_VALUE, Integer.MIN_VALUE, -1},
+                (int[]) convert("new Uint32Array([0, 2 ** 31 - 1, 2 ** 31, 2 ** 32 - 1])"));
+        assertArrayEquals(new long[]{0, Long.MAX_VALUE, Long.MIN_VALUE, -1},
+                (long[]) convert("new BigUint64Array([0n, 2n ** 63n - 1n, 2n ** 63n, 2n ** 64n - 1n])"));
+    }
+
+    @Test
+    public void unsignedSubarray() {
+        // Only the viewed part of the buffer is copied
+        assertArrayEquals(new byte[]{-56, -1},
+                (byte[]) convert("new Uint8Array([1, 200, 255, 2]).subarray(1, 3)"));
+        assertArrayEquals(new int[]{-1},
+                (int[]) convert("new Uint32Array([1, 2 ** 32 - 1, 2]).subarray(1, 2)"));
+    }
+
+    @Test
+    public void unsupportedValues() {
+        assertFalse(NbtConversionUtils.isTypedArray(context.eval("js", "[1, 2, 3]")));
+        assertFalse(NbtConversionUtils.isTypedArray(context.eval("js", "new Float32Array(2)")));
+        assertFalse(NbtConversionUtils.isTypedArray(context.eval("js", "({ BYTES_PER_ELEMENT: 1 })")));
+    }
+
+    @Test
+    public void primitiveNbtArrayViews() {
+        final NBTIntArray nbt = new NBTIntArray(new int[]{1, -2, Integer.MAX_VALUE});
+        final Value value = NbtConversionUtils.toValue(nbt);
+        assertNotNull(value);
+        assertTrue(value.isProxyObject());
+        // The view reads the tag, converting it back gives the same tag
+        assertSame(nbt, value.<NbtArrayView>asProxyObject().nbt());
+
+        context.getBindings("js").putMember("array", value);
+        assertEquals(3, context.eval("js", "array.length").asInt());
+        assertEquals(Integer.MAX_VALUE - 1, context.eval("js", "array[0] + array[1] + array[2]").asInt());
+        assertArrayEquals(new long[]{Long.MIN_VALUE, 5},
+                context.eval("js", "x => [x[0], x[1]]")
+                        .execute(NbtConversionUtils.toValue(new NBTLongArray(new long[]{Long.MIN_VALUE, 5})))
+                        .as(long[].class));
+        assertThrows(Exception.class, () -> context.eval("js", "'use strict'; array[0] = 5"));
+    }
+
+    private Object convert(String source) {
+        final Value value = context.eval("js", source);
+        assertTrue(NbtConversionUtils.isTypedArray(value));
+        return NbtConversionUtils.fromTypedArray(value);
+    }
+}
@@ -0,0 +1,64 @@
+package script.demo;
+
+import net.minestom.script.GlobalExecutor;
+import net.minestom.script.Script;
+import net.minestom.script.ScriptManager;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.instance.InstanceContainer;
+import org.graalvm.polyglot.Value;
+
+/**
+ * Compares placing blocks through the 'world setblock' command and through the typed 'world' binding.
+ */
+public class HostApiBenchmark {
+
+    private static final int WARMUP_ITERATIONS = 5;
+    private static final int ITERATIONS = 10;
+    private static final int OPERATIONS = 10_000;
+
+    private static final String SOURCE = """
+            function commandPath(count) {
+                for (let i = 0; i < count; i++) {
+                    executor.run('world setblock', i % 16, 41, (i >> 4) % 16, 'minecraft:stone');
+                }
+            }
+            function templatePath(count) {
+                const setBlock = executor.make('world setblock {0} {1} {2} {3}');
+                for (let i = 0; i < count; i++) {
+                    setBlock(i % 16, 41, (i >> 4) % 16, 'minecraft:stone');
+                }
+            }
+            function typedPath(count) {
+                for (let i = 0; i < count; i++) {
+                    world.setBlock(i % 16, 41, (i >> 4) % 16, 'minecraft:stone');
+                }
+            }
+            """;
+
+    public static void main(String[] args) {
+        MinecraftServer.init();
+        InstanceContainer instance = MinecraftServer.getInstanceManager().createInstanceContainer();
+        instance.loadChunk(0, 0).join();
+        ScriptManager.load();
+
+        Script script = Script.fromString("benchmark", "js", SOURCE, new GlobalExecutor());
+        script.load();
+        Value bindings = script.context().getBindings("js");
+
+        for (String path : new String[]{"commandPath", "templatePath", "typedPath"}) {
+            final Value function = bindings.getMember(path);
+            for (int i = 0; i < WARMUP_ITERATIONS; i++) {
+                function.execute(OPERATIONS);
+            }
+            final long start = System.nanoTime();
+            for (int i = 0; i < ITERATIONS; i++) {
+                function.execute(OPERATIONS);
+            }
+            final double nanosPerOperation = (double) (System.nanoTime() - start) / (ITERATIONS * OPERATIONS);
+            System.out.printf("%s: %.1f ns/op%n", path, nanosPerOperation);
+        }
+
+        script.unload();
+        MinecraftServer.stopCleanly();
+    }
+}
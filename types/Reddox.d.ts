@@ -21,6 +21,27 @@ declare interface Executor {
      */
     run(...args: any[]): any;
 
+    /**
+     * Execute multiple commands in order, with a single call instead of one {@link Executor#run} per command.
+     *
+     * ```js
+     * const results = executor.batch(['world time set day', ['tell', 'Notch', 'Hello']]);
+     * ```
+     *
+     * @param commands The commands, each being a string or an array of arguments
+     * @param collectResults False to skip the command results, true by default
+     * @returns One result per command, null when the results are not collected
+     */
+    batch(commands: (string | any[])[], collectResults?: true): any[];
+    batch(commands: (string | any[])[], collectResults: false): null;
+
+    /**
+     * Execute multiple commands whose results are ignored.
+     *
+     * @param commands The commands, each being a string or an array of arguments
+     */
+    runAll(commands: (string | any[])[]): void;
+
     /**
      * Create an alias for the given command with placeholder arguments.
      *
@@ -47,9 +68,9 @@ declare interface Executor {
  * Applied with {@link GlobalExecutor#with}.
  */
 declare interface ExecutionOptions {
-    /** A proxy sender of the command. The default is console. */
+    /** The player executing the commands. The default is console, commands are skipped once the player is offline. */
     as?: any;
-    /** If true, no `sendMessage` calls will be executed. The default is false. */
+    /** If true, commands do not send any feedback message nor report failures. The default is false. */
     silent?: boolean;
 }
 
@@ -128,4 +149,50 @@ declare namespace signals {
 /**
  * Global executor reference for use in scripts.
  */
-declare const executor: GlobalExecutor;
\ No newline at end of file
+declare const executor: GlobalExecutor;
+
+/**
+ * Typed world access, faster than the equivalent `world` commands.
+ *
+ * ```js
+ * world.setBlock(0, 40, 0, 'minecraft:stone');
+ * const block = world.getBlock(properties.position);
+ * ```
+ */
+declare interface WorldHandler {
+    setBlock(x: number, y: number, z: number, block: string): void;
+
+    setBlock(position: any, block: any): void;
+
+    getBlock(position: any): any;
+}
+
+/**
+ * Typed entity access, faster than the equivalent `entity` commands.
+ */
+declare interface EntityHandler {
+    /**
+     * Gets a live entity.
+     *
+     * @param id The entity uuid or the player username
+     * @returns The entity property, null if not found
+     */
+    get(id: string): any;
+
+    teleport(entity: any, position: any): void;
+
+    kill(entity: any): void;
+}
+
+/**
+ * Typed display access, messages are parsed as JSON or MiniMessage.
+ */
+declare interface DisplayHandler {
+    actionBar(target: any, message: string): void;
+
+    message(target: any, message: string): void;
+}
+
+declare const world: WorldHandler;
+declare const entity: EntityHandler;
+declare const display: DisplayHandler;